@@ -0,0 +1,92 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.LoteDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CadastroLoteBenchmark {
+
+    private static final int PESSOAS = 1000;
+
+    private final AtomicLong sequenciaCpf = new AtomicLong();
+
+    private ConfigurableApplicationContext contexto;
+
+    private PessoaService pessoaService;
+
+    private List<PessoaDTO> pessoasDTO;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(CadastroPessoasApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        pessoaService = contexto.getBean(PessoaService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void gerarPessoas() {
+        pessoasDTO = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder()
+                    .id(null)
+                    .cpf(GeradorCPF.gerar(sequenciaCpf.incrementAndGet()))
+                    .build()
+                    .toPessoaDTO());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PESSOAS)
+    public int cadastroIndividual() throws Exception {
+        int gravados = 0;
+        for (PessoaDTO pessoaDTO : pessoasDTO) {
+            pessoaDTO.getContatos().forEach(contato -> contato.setId(null));
+            pessoaService.cadastrar(pessoaDTO);
+            gravados++;
+        }
+        return gravados;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PESSOAS)
+    public LoteDTO cadastroLote() {
+        return pessoaService.cadastrarLote(pessoasDTO);
+    }
+}
@@ -0,0 +1,185 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+/**
+ * Carga mista de leitura e escrita via HTTP contra a aplicação com o banco já povoado. Cada método do grupo
+ * {@code misto} tem vazão e percentis próprios no resultado; {@link ComparadorCarga} compara esses números com a
+ * linha de base em {@code src/jmh/baseline-carga.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CargaBenchmark {
+
+    private static final int LOTE = 10_000;
+
+    private static final long PRIMEIRO_CPF_NOVO = 500_000_000L;
+
+    @Param({ "10000" })
+    private int pessoas;
+
+    @Param({ "3" })
+    private int contatos;
+
+    private final AtomicLong proximoCpf = new AtomicLong(PRIMEIRO_CPF_NOVO);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConfigurableApplicationContext contexto;
+
+    private HttpClient httpClient;
+
+    private String baseUrl;
+
+    private long primeiroId;
+
+    private long[] versoes;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        // Argumentos, e não propriedades padrão, para valerem sobre o config/application.properties dos testes, que
+        // desliga o cache. O índice de nomes continua em memória: o H2 não tem o pg_trgm.
+        contexto = new SpringApplicationBuilder(CadastroPessoasApplication.class)
+                .run("--server.port=0", "--spring.cache.type=caffeine");
+
+        PessoaService pessoaService = contexto.getBean(PessoaService.class);
+        List<PessoaDTO> lote = new ArrayList<>(LOTE);
+        for (int i = 1; i <= pessoas; i++) {
+            lote.add(pessoa(i));
+            if (lote.size() == LOTE || i == pessoas) {
+                pessoaService.cadastrarLote(lote);
+                lote.clear();
+            }
+        }
+        primeiroId = pessoaService.buscaPaginada(0, 1).getContent().get(0).getId();
+        versoes = new long[pessoas];
+
+        baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/pessoa";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(8)
+    public int buscarUm() throws Exception {
+        return enviar(HttpRequest.newBuilder(URI.create(baseUrl + "/" + idAleatorio())).GET()).statusCode();
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(2)
+    public int buscaPaginada() throws Exception {
+        int pagina = ThreadLocalRandom.current().nextInt(pessoas / 20);
+        URI uri = URI.create(baseUrl + "/paginar?registros=20&pagina=" + pagina);
+        return enviar(HttpRequest.newBuilder(uri).GET()).statusCode();
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(2)
+    public int buscarPorCpf() throws Exception {
+        String cpf = GeradorCPF.gerar(1 + ThreadLocalRandom.current().nextInt(pessoas));
+        return enviar(HttpRequest.newBuilder(URI.create(baseUrl + "/cpf/" + cpf)).GET()).statusCode();
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(2)
+    public int cadastrar() throws Exception {
+        String corpo = objectMapper.writeValueAsString(pessoa(proximoCpf.getAndIncrement()));
+        return enviar(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))).statusCode();
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(2)
+    public int atualizarParcial(ThreadParams threadParams) throws Exception {
+        // Cada thread altera só a sua fatia dos IDs e guarda a versão de cada um, para mandar o If-Match sem ler antes.
+        int fatias = threadParams.getSubgroupThreadCount();
+        int indice = threadParams.getSubgroupThreadIndex()
+                + fatias * ThreadLocalRandom.current().nextInt(pessoas / fatias);
+        PessoaParcialDTO parcial = new PessoaParcialDTO("Nome alterado " + System.nanoTime(), null, null, null);
+        URI uri = URI.create(baseUrl + "/" + (primeiroId + indice));
+        HttpResponse<Void> resposta = enviar(HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .header("If-Match", "\"" + versoes[indice] + "\"")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(parcial))));
+        String etag = resposta.headers().firstValue("ETag").orElseThrow();
+        versoes[indice] = Long.parseLong(etag.substring(1, etag.length() - 1));
+        return resposta.statusCode();
+    }
+
+    private long idAleatorio() {
+        return primeiroId + ThreadLocalRandom.current().nextInt(pessoas);
+    }
+
+    // Uma resposta de erro é muito mais rápida que a operação real e mascararia uma regressão: ela aborta o grupo, e o
+    // ComparadorCarga falha por falta dos resultados.
+    private HttpResponse<Void> enviar(HttpRequest.Builder requisicao) throws Exception {
+        HttpRequest httpRequest = requisicao.build();
+        HttpResponse<Void> resposta = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+        if (resposta.statusCode() / 100 != 2) {
+            throw new IllegalStateException(httpRequest.method() + " " + httpRequest.uri() + " respondeu "
+                    + resposta.statusCode());
+        }
+        return resposta;
+    }
+
+    private PessoaDTO pessoa(long semente) {
+        List<ContatoDTO> contatosDTO = new ArrayList<>(contatos);
+        for (int i = 0; i < contatos; i++) {
+            contatosDTO.add(ContatoDTOBuilder.builder().id(null).build().toContatoDTO());
+        }
+
+        return PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(semente)).contatos(contatosDTO).build()
+                .toPessoaDTO();
+    }
+}
@@ -0,0 +1,161 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Compara o resultado JSON do JMH com a linha de base e termina com erro se a vazão cair, ou se algum percentil de
+ * latência subir, mais que a tolerância; também termina com erro se faltar o resultado ou alguma métrica da linha de
+ * base. Uma execução sem o {@code CargaBenchmark} não é comparada. Com {@code atualizar=true}, grava o resultado como a
+ * nova linha de base.
+ *
+ * <p>Uso: {@code ComparadorCarga <resultado.json> <baseline.json> <tolerancia> [atualizar]}
+ */
+public class ComparadorCarga {
+
+    private static final String VAZAO = "vazao";
+
+    private static final String CARGA = "CargaBenchmark.";
+
+    private static final Map<String, String> PERCENTIS = new TreeMap<>(
+            Map.of("p50", "50.0", "p95", "95.0", "p99", "99.0"));
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws IOException {
+        File resultado = new File(args[0]);
+        File baseline = new File(args[1]);
+        double tolerancia = Double.parseDouble(args[2]);
+        boolean atualizar = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        if (!resultado.exists()) {
+            falhar("Sem resultado do JMH em " + resultado + ".");
+        }
+
+        Map<String, Map<String, Double>> atuais = ler(OBJECT_MAPPER.readTree(resultado));
+        atuais.keySet().removeIf(chave -> !chave.startsWith(CARGA));
+        if (atuais.isEmpty()) {
+            System.out.println("Sem resultados do CargaBenchmark em " + resultado + ", nada a comparar.");
+            return;
+        }
+
+        if (atualizar) {
+            OBJECT_MAPPER.writeValue(baseline, atuais);
+            System.out.println("Linha de base atualizada em " + baseline + ".");
+            return;
+        }
+
+        Map<String, Map<String, Double>> referencias = OBJECT_MAPPER.readValue(baseline,
+                new TypeReference<TreeMap<String, Map<String, Double>>>() {
+                });
+
+        int comparadas = 0;
+        int regressoes = 0;
+        int ausentes = 0;
+        for (Map.Entry<String, Map<String, Double>> referencia : referencias.entrySet()) {
+            Map<String, Double> atual = atuais.getOrDefault(referencia.getKey(), Map.of());
+
+            for (Map.Entry<String, Double> metrica : referencia.getValue().entrySet()) {
+                Double valor = atual.get(metrica.getKey());
+                if (valor == null) {
+                    ausentes++;
+                    System.err.printf("%-60s %-6s ausente do resultado%n", referencia.getKey(), metrica.getKey());
+                    continue;
+                }
+
+                comparadas++;
+                double base = metrica.getValue();
+                boolean regrediu = VAZAO.equals(metrica.getKey())
+                        ? valor < base * (1 - tolerancia)
+                        : valor > base * (1 + tolerancia);
+                if (regrediu) {
+                    regressoes++;
+                }
+
+                (regrediu ? System.err : System.out).printf("%-60s %-6s base=%10.3f atual=%10.3f %+7.1f%% %s%n",
+                        referencia.getKey(), metrica.getKey(), base, valor, (valor / base - 1) * 100,
+                        regrediu ? "REGRESSÃO" : "ok");
+            }
+        }
+
+        if (comparadas == 0) {
+            falhar("Nenhuma métrica da linha de base " + baseline + " no resultado; se os parâmetros mudaram, "
+                    + "grave uma nova com -Dcarga.atualizar=true.");
+        }
+
+        if (ausentes > 0) {
+            falhar(String.format("%d métricas da linha de base não estão no resultado.", ausentes));
+        }
+
+        if (regressoes > 0) {
+            falhar(String.format("%d de %d métricas pioraram mais de %.0f%% em relação à linha de base.", regressoes,
+                    comparadas, tolerancia * 100));
+        }
+    }
+
+    private static void falhar(String mensagem) {
+        System.err.println(mensagem);
+        System.exit(1);
+    }
+
+    // Chave: benchmark curto, método do grupo e parâmetros, como em "CargaBenchmark.misto:buscarUm{pessoas=10000}".
+    private static Map<String, Map<String, Double>> ler(JsonNode resultado) {
+        Map<String, Map<String, Double>> metricas = new TreeMap<>();
+
+        for (JsonNode execucao : resultado) {
+            String benchmark = execucao.get("benchmark").asText();
+            String nome = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            String parametros = parametros(execucao.get("params"));
+            String modo = execucao.get("mode").asText();
+
+            JsonNode secundarias = execucao.get("secondaryMetrics");
+            if (secundarias == null || secundarias.isEmpty()) {
+                registrar(metricas, nome + parametros, modo, execucao.get("primaryMetric"));
+                continue;
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> metodos = secundarias.fields();
+            while (metodos.hasNext()) {
+                Map.Entry<String, JsonNode> metodo = metodos.next();
+                // O JMH também publica cada percentil como métrica secundária, como "buscarUm:p0.99".
+                if (!metodo.getKey().matches("\\w+")) {
+                    continue;
+                }
+                registrar(metricas, nome + ":" + metodo.getKey() + parametros, modo, metodo.getValue());
+            }
+        }
+
+        return metricas;
+    }
+
+    private static void registrar(Map<String, Map<String, Double>> metricas, String chave, String modo,
+            JsonNode metrica) {
+        Map<String, Double> valores = metricas.computeIfAbsent(chave, k -> new LinkedHashMap<>());
+
+        if ("thrpt".equals(modo)) {
+            valores.put(VAZAO, metrica.get("score").asDouble());
+        } else if ("sample".equals(modo)) {
+            JsonNode percentis = metrica.get("scorePercentiles");
+            PERCENTIS.forEach((nome, percentil) -> valores.put(nome, percentis.get(percentil).asDouble()));
+        }
+    }
+
+    private static String parametros(JsonNode params) {
+        if (params == null || params.isEmpty()) {
+            return "";
+        }
+
+        Map<String, String> ordenados = new TreeMap<>();
+        params.fields().forEachRemaining(param -> ordenados.put(param.getKey(), param.getValue().asText()));
+        return ordenados.toString().replace(", ", ",");
+    }
+}
@@ -0,0 +1,174 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.spi.ToolProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+
+/**
+ * Tempo entre o lançamento da JVM e a primeira resposta de {@code GET /pessoa/paginar}, com a aplicação em um processo
+ * próprio. O modo {@code cds} grava antes um arquivo de classes (AppCDS) e o modo {@code aot} exige o build com o
+ * perfil Maven {@code aot}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InicioBenchmark {
+
+    private static final long LIMITE_MS = 120_000;
+
+    @Param({ "padrao", "inicio-rapido", "cds", "aot" })
+    private String modo;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Path diretorio;
+
+    private List<String> classpath;
+
+    private Process processo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        diretorio = Files.createDirectories(Path.of("target", "inicio"));
+        classpath = classpathEmJars();
+
+        if ("aot".equals(modo)) {
+            try {
+                Class.forName(CadastroPessoasApplication.class.getName() + "__ApplicationContextInitializer");
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("O modo aot exige o build com o perfil Maven aot.", e);
+            }
+        }
+
+        if ("cds".equals(modo)) {
+            Path arquivo = diretorio.resolve("cadastro.jsa");
+            Files.deleteIfExists(arquivo);
+            Process gravacao = iniciar(List.of("-XX:ArchiveClassesAtExit=" + arquivo), "inicio-rapido");
+            encerrar(gravacao);
+        }
+    }
+
+    @Benchmark
+    public void primeiraResposta() throws Exception {
+        processo = switch (modo) {
+            case "inicio-rapido" -> iniciar(List.of(), "inicio-rapido");
+            case "cds" -> iniciar(List.of("-XX:SharedArchiveFile=" + diretorio.resolve("cadastro.jsa")),
+                    "inicio-rapido");
+            case "aot" -> iniciar(List.of("-Dspring.aot.enabled=true"), "inicio-rapido");
+            default -> iniciar(List.of(), null);
+        };
+    }
+
+    @TearDown(Level.Iteration)
+    public void encerrar() throws Exception {
+        encerrar(processo);
+    }
+
+    private Process iniciar(List<String> opcoesJvm, String perfil) throws Exception {
+        int porta;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            porta = socket.getLocalPort();
+        }
+
+        List<String> comando = new ArrayList<>();
+        comando.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(opcoesJvm);
+        // O devtools está no classpath do benchmark e reiniciaria a aplicação em outro class loader.
+        comando.add("-Dspring.devtools.restart.enabled=false");
+        comando.add("-cp");
+        comando.add(String.join(File.pathSeparator, classpath));
+        comando.add(CadastroPessoasApplication.class.getName());
+        comando.add("--server.port=" + porta);
+        if (perfil != null) {
+            comando.add("--spring.profiles.active=" + perfil);
+        }
+
+        Process iniciado = new ProcessBuilder(comando)
+                .redirectErrorStream(true)
+                .redirectOutput(diretorio.resolve("aplicacao-" + modo + ".log").toFile())
+                .start();
+        aguardarPrimeiraResposta(iniciado, porta);
+        return iniciado;
+    }
+
+    private void aguardarPrimeiraResposta(Process iniciado, int porta) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/pessoa/paginar"))
+                .GET()
+                .build();
+        long limite = System.currentTimeMillis() + LIMITE_MS;
+
+        while (System.currentTimeMillis() < limite) {
+            if (!iniciado.isAlive()) {
+                throw new IllegalStateException("A aplicação terminou antes de responder; veja " + diretorio);
+            }
+
+            try {
+                if (httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Ainda subindo.
+            }
+            Thread.sleep(5);
+        }
+
+        iniciado.destroyForcibly();
+        throw new IllegalStateException("A aplicação não respondeu em " + LIMITE_MS + " ms.");
+    }
+
+    private static void encerrar(Process iniciado) throws InterruptedException {
+        iniciado.destroy();
+        if (!iniciado.waitFor(30, TimeUnit.SECONDS)) {
+            iniciado.destroyForcibly().waitFor();
+        }
+    }
+
+    // O CDS não aceita diretórios com classes no classpath, então target/classes e target/test-classes viram jars.
+    private List<String> classpathEmJars() {
+        ToolProvider jar = ToolProvider.findFirst("jar").orElseThrow();
+        List<String> jars = new ArrayList<>();
+
+        for (String entrada : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            File arquivo = new File(entrada);
+            if (!arquivo.isDirectory()) {
+                jars.add(entrada);
+                continue;
+            }
+
+            Path empacotado = diretorio.resolve(arquivo.getName() + ".jar");
+            jar.run(System.out, System.err, "--create", "--file", empacotado.toString(), "-C", entrada, ".");
+            jars.add(empacotado.toString());
+        }
+
+        return jars;
+    }
+}
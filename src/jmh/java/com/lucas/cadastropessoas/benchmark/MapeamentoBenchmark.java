@@ -0,0 +1,91 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.mapper.PessoaMapper;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class MapeamentoBenchmark {
+
+    private final PessoaMapper pessoaMapper = new PessoaMapper();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final PessoaService pessoaService = new PessoaService();
+
+    private PessoaDTO pessoaDTO;
+
+    private Pessoa pessoa;
+
+    @Setup
+    public void preparar() {
+        ReflectionTestUtils.setField(pessoaService, "pessoaMapper", pessoaMapper);
+
+        List<ContatoDTO> contatos = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            contatos.add(ContatoDTOBuilder.builder().id(id).build().toContatoDTO());
+        }
+
+        pessoaDTO = PessoaDTOBuilder.builder().contatos(contatos).build().toPessoaDTO();
+        pessoa = pessoaMapper.toModel(pessoaDTO);
+
+        modelMapper.map(pessoaDTO, Pessoa.class);
+        modelMapper.map(pessoa, PessoaDTO.class);
+    }
+
+    @Benchmark
+    public PessoaDTO toDtoPessoaMapper() {
+        return pessoaMapper.toDto(pessoa);
+    }
+
+    @Benchmark
+    public PessoaDTO toDtoModelMapper() {
+        return modelMapper.map(pessoa, PessoaDTO.class);
+    }
+
+    @Benchmark
+    public PessoaDTO toDtoPessoaService() {
+        return pessoaService.toDto(pessoa);
+    }
+
+    @Benchmark
+    public Pessoa toModelPessoaMapper() {
+        return pessoaMapper.toModel(pessoaDTO);
+    }
+
+    @Benchmark
+    public Pessoa toModelModelMapper() {
+        return modelMapper.map(pessoaDTO, Pessoa.class);
+    }
+
+    @Benchmark
+    public Pessoa toModelPessoaService() {
+        return pessoaService.toModel(pessoaDTO);
+    }
+}
@@ -0,0 +1,95 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+/**
+ * Página completa (entidades com contatos mapeadas para {@code PessoaDTO}) x resumo projetado direto da consulta.
+ * Rode com {@code -prof gc} para comparar também a alocação por página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PaginacaoBenchmark {
+
+    private static final int PESSOAS = 10_000;
+
+    private static final int CONTATOS = 3;
+
+    @Param({ "20", "100" })
+    private int registros;
+
+    private ConfigurableApplicationContext contexto;
+
+    private PessoaService pessoaService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(CadastroPessoasApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        pessoaService = contexto.getBean(PessoaService.class);
+
+        List<PessoaDTO> pessoasDTO = new ArrayList<>(PESSOAS);
+        for (int i = 1; i <= PESSOAS; i++) {
+            List<ContatoDTO> contatos = new ArrayList<>(CONTATOS);
+            for (int j = 0; j < CONTATOS; j++) {
+                contatos.add(ContatoDTOBuilder.builder().id(null).build().toContatoDTO());
+            }
+            pessoasDTO.add(PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(i)).contatos(contatos).build()
+                    .toPessoaDTO());
+        }
+        pessoaService.cadastrarLote(pessoasDTO);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Page<PessoaDTO> paginaCompleta() {
+        return pessoaService.buscaPaginada(pagina(), registros);
+    }
+
+    @Benchmark
+    public Page<PessoaResumoDTO> paginaResumo() {
+        return pessoaService.buscaPaginadaResumo(pagina(), registros);
+    }
+
+    private int pagina() {
+        return ThreadLocalRandom.current().nextInt(PESSOAS / registros);
+    }
+}
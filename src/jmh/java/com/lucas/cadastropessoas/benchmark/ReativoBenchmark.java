@@ -0,0 +1,176 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class ReativoBenchmark {
+
+    private static final int PESSOAS = 1000;
+
+    private static final String OPCOES_H2 = "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Param({ "mvc", "reativo" })
+    private String modo;
+
+    private ConfigurableApplicationContext contexto;
+
+    private HttpClient httpClient;
+
+    private String baseUrl;
+
+    private long primeiroId;
+
+    private ScheduledExecutorService amostrador;
+
+    private final AtomicInteger picoThreads = new AtomicInteger();
+
+    private final AtomicInteger picoConexoes = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void iniciar() throws Exception {
+        boolean reativo = "reativo".equals(modo);
+        contexto = new SpringApplicationBuilder(CadastroPessoasApplication.class)
+                .profiles(reativo ? new String[] { "reativo" } : new String[0])
+                .run(
+                        "--server.port=0",
+                        "--spring.cache.type=none",
+                        argumento("spring.datasource.url", "jdbc:h2:mem:benchmarkReativo;" + OPCOES_H2),
+                        argumento("spring.r2dbc.url", "r2dbc:h2:mem:///benchmarkReativo?options=" + OPCOES_H2),
+                        argumento("spring.r2dbc.username", "sa"),
+                        argumento("spring.r2dbc.password", ""));
+
+        List<PessoaDTO> pessoasDTO = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(i)).build().toPessoaDTO());
+        }
+        PessoaService pessoaService = contexto.getBean(PessoaService.class);
+        pessoaService.cadastrarLote(pessoasDTO);
+        primeiroId = pessoaService.buscaPaginada(0, 1).getContent().get(0).getId();
+
+        baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/pessoa";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        String prefixoThreads = reativo ? "reactor-http-" : "http-nio-";
+        IntSupplier conexoes = reativo ? conexoesR2dbc() : conexoesHikari();
+        amostrador = Executors.newSingleThreadScheduledExecutor();
+        amostrador.scheduleAtFixedRate(() -> {
+            picoThreads.accumulateAndGet(contarThreads(prefixoThreads), Math::max);
+            picoConexoes.accumulateAndGet(conexoes.getAsInt(), Math::max);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+    }
+
+    @Setup(Level.Iteration)
+    public void zerarPicos() {
+        picoThreads.set(0);
+        picoConexoes.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportarPicos() {
+        System.out.printf("%n[%s] pico de threads do servidor: %d, pico de conexões em uso: %d%n",
+                modo, picoThreads.get(), picoConexoes.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        amostrador.shutdownNow();
+        contexto.close();
+    }
+
+    @Benchmark
+    public int buscarUm() throws Exception {
+        long id = primeiroId + ThreadLocalRandom.current().nextInt(PESSOAS);
+        return requisitar(baseUrl + "/" + id);
+    }
+
+    @Benchmark
+    public int buscaPaginada() throws Exception {
+        int pagina = ThreadLocalRandom.current().nextInt(PESSOAS / 20);
+        return requisitar(baseUrl + "/paginar?registros=20&pagina=" + pagina);
+    }
+
+    private int requisitar(String url) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        return httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private IntSupplier conexoesHikari() throws Exception {
+        HikariDataSource dataSource = contexto.getBean(DataSource.class).unwrap(HikariDataSource.class);
+        return () -> dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    private IntSupplier conexoesR2dbc() {
+        ConnectionPool pool = contexto.getBean(ConnectionPool.class);
+        return () -> pool.getMetrics().map(PoolMetrics::acquiredSize).orElse(0);
+    }
+
+    // O r2dbc-h2 é síncrono e, com muitas threads clientes, monopoliza o event loop; para concorrência alta, aponte
+    // os dois pools para um PostgreSQL com -Dspring.datasource.url=... e -Dspring.r2dbc.url=...
+    private static String argumento(String propriedade, String padrao) {
+        return "--" + propriedade + "=" + System.getProperty(propriedade, padrao);
+    }
+
+    private static int contarThreads(String prefixo) {
+        ThreadGroup raiz = Thread.currentThread().getThreadGroup();
+        while (raiz.getParent() != null) {
+            raiz = raiz.getParent();
+        }
+
+        Thread[] threads = new Thread[raiz.activeCount() * 2];
+        int total = raiz.enumerate(threads);
+
+        int encontradas = 0;
+        for (int i = 0; i < total; i++) {
+            if (threads[i].getName().startsWith(prefixo)) {
+                encontradas++;
+            }
+        }
+        return encontradas;
+    }
+}
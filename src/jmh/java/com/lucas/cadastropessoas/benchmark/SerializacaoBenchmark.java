@@ -0,0 +1,104 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({ "5", "100" })
+    private int registros;
+
+    @Param({ "json", "cbor", "smile" })
+    private String formato;
+
+    private ObjectMapper objectMapper;
+
+    private PessoaDTO pessoaDTO;
+
+    private Page<PessoaDTO> pagina;
+
+    private byte[] pessoaSerializada;
+
+    @Setup
+    public void preparar() throws IOException {
+        objectMapper = switch (formato) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        List<PessoaDTO> pessoasDTO = new ArrayList<>(registros);
+        for (int i = 0; i < registros; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder().id((long) i + 1).cpf(GeradorCPF.gerar(i)).build().toPessoaDTO());
+        }
+
+        pessoaDTO = pessoasDTO.get(0);
+        pagina = new PageImpl<>(pessoasDTO, PageRequest.of(0, registros, Sort.by("id")), 1_000_000L);
+        pessoaSerializada = objectMapper.writeValueAsBytes(pessoaDTO);
+
+        byte[] corpoPagina = objectMapper.writeValueAsBytes(pagina);
+        System.out.printf("%n[%s] página de %d registros: %d bytes, %d bytes com gzip%n",
+                formato, registros, corpoPagina.length, gzip(corpoPagina).length);
+    }
+
+    @Benchmark
+    public byte[] serializarPessoa() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pessoaDTO);
+    }
+
+    @Benchmark
+    public PessoaDTO desserializarPessoa() throws Exception {
+        return objectMapper.readValue(pessoaSerializada, PessoaDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] serializarPaginaComGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(pagina));
+    }
+
+    private static byte[] gzip(byte[] corpo) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(corpo.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(corpo);
+        }
+        return saida.toByteArray();
+    }
+}
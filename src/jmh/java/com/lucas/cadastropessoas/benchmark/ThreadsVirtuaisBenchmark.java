@@ -0,0 +1,97 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.lucas.cadastropessoas.CadastroPessoasApplication;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ThreadsVirtuaisBenchmark {
+
+    private static final int PESSOAS = 1000;
+
+    @Param({ "plataforma", "virtual" })
+    private String modo;
+
+    private ConfigurableApplicationContext contexto;
+
+    private HttpClient httpClient;
+
+    private String baseUrl;
+
+    private long primeiroId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(CadastroPessoasApplication.class)
+                .profiles("virtual".equals(modo) ? new String[] { "virtual" } : new String[0])
+                .properties("server.port=0")
+                .run();
+
+        List<PessoaDTO> pessoasDTO = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(i)).build().toPessoaDTO());
+        }
+        PessoaService pessoaService = contexto.getBean(PessoaService.class);
+        pessoaService.cadastrarLote(pessoasDTO);
+        primeiroId = pessoaService.buscaPaginada(0, 1).getContent().get(0).getId();
+
+        baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/pessoa";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public int buscarUm() throws Exception {
+        long id = primeiroId + ThreadLocalRandom.current().nextInt(PESSOAS);
+        return requisitar(baseUrl + "/" + id);
+    }
+
+    @Benchmark
+    public int buscaPaginada() throws Exception {
+        int pagina = ThreadLocalRandom.current().nextInt(PESSOAS / 20);
+        return requisitar(baseUrl + "/paginar?registros=20&pagina=" + pagina);
+    }
+
+    private int requisitar(String url) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        return httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,94 @@
+package com.lucas.cadastropessoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.validator.ValidarCPF;
+import com.lucas.cadastropessoas.validator.ValidarDataFutura;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Cpfs {
+
+        @Param({ "42601209054", "42601209055", "11111111111", "426.012.090-54" })
+        private String cpf;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Lote {
+
+        @Param({ "1000000" })
+        private int tamanho;
+
+        private List<String> cpfs;
+
+        @Setup
+        public void preparar() {
+            cpfs = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                cpfs.add(GeradorCPF.gerar(i));
+            }
+        }
+    }
+
+    private Date dataNascimento;
+
+    @Setup
+    public void preparar() {
+        Calendar data = Calendar.getInstance();
+        data.add(Calendar.YEAR, -30);
+        dataNascimento = data.getTime();
+    }
+
+    @Benchmark
+    public boolean cpfValido(Cpfs cpfs) {
+        return ValidarCPF.cpfValido(cpfs.cpf);
+    }
+
+    @Benchmark
+    public boolean cpfValidoLegado(Cpfs cpfs) {
+        return ValidarCPFLegado.cpfValido(cpfs.cpf);
+    }
+
+    @Benchmark
+    public boolean[] validarLote(Lote lote) {
+        return ValidarCPF.validarLote(lote.cpfs);
+    }
+
+    @Benchmark
+    public boolean[] validarLoteLegado(Lote lote) {
+        boolean[] validos = new boolean[lote.cpfs.size()];
+        for (int i = 0; i < validos.length; i++) {
+            validos[i] = ValidarCPFLegado.cpfValido(lote.cpfs.get(i));
+        }
+        return validos;
+    }
+
+    @Benchmark
+    public boolean dataFutura() {
+        return ValidarDataFutura.dataFutura(dataNascimento);
+    }
+}
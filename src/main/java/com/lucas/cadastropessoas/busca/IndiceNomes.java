@@ -0,0 +1,16 @@
+package com.lucas.cadastropessoas.busca;
+
+import java.util.List;
+
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+
+public interface IndiceNomes {
+
+    List<PessoaResumoDTO> buscar(String nome, int limite);
+
+    void indexar(PessoaResumoDTO pessoa);
+
+    void atualizar(Long id, String nome, String cpf);
+
+    void remover(Long id);
+}
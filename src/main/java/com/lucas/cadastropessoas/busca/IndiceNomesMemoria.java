@@ -0,0 +1,138 @@
+package com.lucas.cadastropessoas.busca;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.repository.PessoaRepository;
+
+@Component
+@ConditionalOnProperty(name = "cadastro.busca-nome.indice", havingValue = "memoria")
+public class IndiceNomesMemoria implements IndiceNomes {
+
+    private static final double SIMILARIDADE_MINIMA = 0.3;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> postagens = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        try (Stream<PessoaResumoDTO> pessoas = pessoaRepository.buscaResumos()) {
+            pessoas.forEach(this::indexar);
+        }
+    }
+
+    @Override
+    public List<PessoaResumoDTO> buscar(String nome, int limite) {
+        String termo = normalizar(nome);
+        Set<String> trigramasTermo = trigramas(termo);
+
+        Map<Long, Integer> compartilhados = new HashMap<>();
+        for (String trigrama : trigramasTermo) {
+            for (Long id : postagens.getOrDefault(trigrama, Set.of())) {
+                compartilhados.merge(id, 1, Integer::sum);
+            }
+        }
+
+        return compartilhados.entrySet().stream()
+                .map(candidato -> {
+                    Entrada entrada = entradas.get(candidato.getKey());
+                    if (entrada == null) {
+                        return null;
+                    }
+                    int comum = candidato.getValue();
+                    double similaridade = (double) comum
+                            / (trigramasTermo.size() + entrada.trigramas().size() - comum);
+                    return new Resultado(entrada, entrada.normalizado().startsWith(termo), similaridade);
+                })
+                .filter(resultado -> resultado != null
+                        && (resultado.prefixo() || resultado.similaridade() >= SIMILARIDADE_MINIMA))
+                .sorted(Comparator.comparing(Resultado::prefixo).reversed()
+                        .thenComparing(Comparator.comparingDouble(Resultado::similaridade).reversed())
+                        .thenComparing(resultado -> resultado.entrada().pessoa().getId()))
+                .limit(limite)
+                .map(resultado -> resultado.entrada().pessoa())
+                .toList();
+    }
+
+    @Override
+    public void indexar(PessoaResumoDTO pessoa) {
+        remover(pessoa.getId());
+
+        String normalizado = normalizar(pessoa.getNome());
+        Entrada entrada = new Entrada(pessoa, normalizado, trigramas(normalizado));
+        entrada.trigramas().forEach(trigrama -> postagens
+                .computeIfAbsent(trigrama, chave -> ConcurrentHashMap.newKeySet())
+                .add(pessoa.getId()));
+        entradas.put(pessoa.getId(), entrada);
+    }
+
+    @Override
+    public void atualizar(Long id, String nome, String cpf) {
+        Entrada atual = entradas.get(id);
+        if (atual == null) {
+            return;
+        }
+
+        PessoaResumoDTO pessoa = atual.pessoa();
+        indexar(new PessoaResumoDTO(id,
+                nome != null ? nome : pessoa.getNome(),
+                cpf != null ? cpf : pessoa.getCpf()));
+    }
+
+    @Override
+    public void remover(Long id) {
+        Entrada anterior = entradas.remove(id);
+        if (anterior != null) {
+            anterior.trigramas().forEach(trigrama -> {
+                Set<Long> ids = postagens.get(trigrama);
+                if (ids != null) {
+                    ids.remove(id);
+                }
+            });
+        }
+    }
+
+    static Set<String> trigramas(String normalizado) {
+        Set<String> trigramas = new HashSet<>();
+        for (String palavra : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String preenchida = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= preenchida.length(); i++) {
+                trigramas.add(preenchida.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    private static String normalizar(String nome) {
+        return nome.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entrada(PessoaResumoDTO pessoa, String normalizado, Set<String> trigramas) {
+    }
+
+    private record Resultado(Entrada entrada, boolean prefixo, double similaridade) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.lucas.cadastropessoas.busca;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+
+@Component
+@ConditionalOnProperty(name = "cadastro.busca-nome.indice", havingValue = "postgres", matchIfMissing = true)
+public class IndiceNomesPostgres implements IndiceNomes {
+
+    private static final String BUSCA = """
+            SELECT p.id, p.nome, p.cpf
+            FROM pessoa p
+            WHERE p.nome ILIKE ? OR p.nome % ?
+            ORDER BY p.nome ILIKE ? DESC, similarity(p.nome, ?) DESC, p.id
+            LIMIT ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PessoaResumoDTO> buscar(String nome, int limite) {
+        String prefixo = nome.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+
+        return jdbcTemplate.query(BUSCA,
+                (resultado, linha) -> new PessoaResumoDTO(
+                        resultado.getLong("id"),
+                        resultado.getString("nome"),
+                        resultado.getString("cpf")),
+                prefixo, nome, prefixo, nome, limite);
+    }
+
+    @Override
+    public void indexar(PessoaResumoDTO pessoa) {
+    }
+
+    @Override
+    public void atualizar(Long id, String nome, String cpf) {
+    }
+
+    @Override
+    public void remover(Long id) {
+    }
+}
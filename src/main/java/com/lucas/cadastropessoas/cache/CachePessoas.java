@@ -0,0 +1,64 @@
+package com.lucas.cadastropessoas.cache;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class CachePessoas {
+
+    public static final String NOME = "pessoas";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CanalInvalidacao canalInvalidacao;
+
+    @PostConstruct
+    void assinar() {
+        canalInvalidacao.assinar(this::remover);
+    }
+
+    public void invalidar(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            canalInvalidacao.publicar(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                canalInvalidacao.publicar(id);
+            }
+        });
+    }
+
+    public void invalidar(Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            canalInvalidacao.publicar(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                canalInvalidacao.publicar(ids);
+            }
+        });
+    }
+
+    private void remover(Long id) {
+        Cache cache = cacheManager.getCache(NOME);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+}
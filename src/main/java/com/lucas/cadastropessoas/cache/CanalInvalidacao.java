@@ -0,0 +1,15 @@
+package com.lucas.cadastropessoas.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface CanalInvalidacao {
+
+    void publicar(Long id);
+
+    default void publicar(Collection<Long> ids) {
+        ids.forEach(this::publicar);
+    }
+
+    void assinar(Consumer<Long> assinante);
+}
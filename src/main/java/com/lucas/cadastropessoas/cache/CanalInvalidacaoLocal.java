@@ -0,0 +1,25 @@
+package com.lucas.cadastropessoas.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "cadastro.cache.canal", havingValue = "local", matchIfMissing = true)
+public class CanalInvalidacaoLocal implements CanalInvalidacao {
+
+    private final List<Consumer<Long>> assinantes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publicar(Long id) {
+        assinantes.forEach(assinante -> assinante.accept(id));
+    }
+
+    @Override
+    public void assinar(Consumer<Long> assinante) {
+        assinantes.add(assinante);
+    }
+}
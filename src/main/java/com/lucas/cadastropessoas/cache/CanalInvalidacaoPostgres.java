@@ -0,0 +1,138 @@
+package com.lucas.cadastropessoas.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+@ConditionalOnProperty(name = "cadastro.cache.canal", havingValue = "postgres")
+public class CanalInvalidacaoPostgres implements CanalInvalidacao {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CanalInvalidacaoPostgres.class);
+
+    private static final String CANAL = "pessoa_cache";
+
+    private static final int ESPERA_MS = 500;
+
+    // O payload do NOTIFY tem até 8000 bytes; 400 IDs de até 19 dígitos, separados por vírgula, cabem nele.
+    private static final int IDS_POR_NOTIFICACAO = 400;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Consumer<Long>> assinantes = new CopyOnWriteArrayList<>();
+
+    private volatile boolean ativo;
+
+    private Thread ouvinte;
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        ouvinte = new Thread(this::ouvir, "invalidacao-cache");
+        ouvinte.setDaemon(true);
+        ouvinte.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        ouvinte.interrupt();
+        ouvinte.join(ESPERA_MS * 2L);
+    }
+
+    @Override
+    public void publicar(Long id) {
+        notificarAssinantes(id);
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CANAL, id.toString());
+    }
+
+    @Override
+    public void publicar(Collection<Long> ids) {
+        List<Long> lote = new ArrayList<>(IDS_POR_NOTIFICACAO);
+        for (Long id : ids) {
+            notificarAssinantes(id);
+            lote.add(id);
+            if (lote.size() == IDS_POR_NOTIFICACAO) {
+                notificar(lote);
+            }
+        }
+
+        if (!lote.isEmpty()) {
+            notificar(lote);
+        }
+    }
+
+    @Override
+    public void assinar(Consumer<Long> assinante) {
+        assinantes.add(assinante);
+    }
+
+    private void ouvir() {
+        while (ativo) {
+            try (Connection conexao = dataSource.getConnection()) {
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + CANAL);
+                }
+
+                PGConnection conexaoPostgres = conexao.unwrap(PGConnection.class);
+                while (ativo) {
+                    PGNotification[] notificacoes = conexaoPostgres.getNotifications(ESPERA_MS);
+                    if (notificacoes != null) {
+                        for (PGNotification notificacao : notificacoes) {
+                            for (String id : notificacao.getParameter().split(",")) {
+                                notificarAssinantes(Long.valueOf(id));
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (ativo) {
+                    LOGGER.warn("Conexão de invalidação do cache perdida, reconectando.", e);
+                    esperar();
+                }
+            }
+        }
+    }
+
+    private void notificar(List<Long> lote) {
+        String ids = lote.stream().map(String::valueOf).collect(Collectors.joining(","));
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CANAL, ids);
+        lote.clear();
+    }
+
+    private void notificarAssinantes(Long id) {
+        assinantes.forEach(assinante -> assinante.accept(id));
+    }
+
+    private void esperar() {
+        try {
+            Thread.sleep(ESPERA_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
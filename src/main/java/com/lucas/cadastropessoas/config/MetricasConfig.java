@@ -0,0 +1,48 @@
+package com.lucas.cadastropessoas.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.lucas.cadastropessoas.metricas.MetricasRepositorio;
+import com.lucas.cadastropessoas.metricas.RegistroConsultasLentas;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public static MetricasRepositorio metricasRepositorio(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MetricasRepositorio(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor proxyConsultasLentas(
+            @Value("${cadastro.sql-lento.limite-ms:200}") long limiteMs,
+            @Value("${cadastro.sql-lento.amostragem:1.0}") double amostragem) {
+        RegistroConsultasLentas registro = new RegistroConsultasLentas(limiteMs, amostragem);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(registro).build();
+                }
+                return bean;
+            }
+        };
+    }
+}
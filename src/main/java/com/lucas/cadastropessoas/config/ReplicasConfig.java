@@ -0,0 +1,75 @@
+package com.lucas.cadastropessoas.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.lucas.cadastropessoas.replica.RoteadorReplicas;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Configuration
+@Profile("!reativo")
+@ConditionalOnProperty(name = "cadastro.replicas.urls")
+public class ReplicasConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    // O proxy preguiçoso só pede a conexão no primeiro comando, quando a transação já foi marcada como somente leitura.
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${cadastro.replicas.urls}") List<String> urls,
+            @Value("${cadastro.replicas.intervalo-nova-tentativa-ms:30000}") long intervaloNovaTentativaMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primario = criarPool(dataSourceProperties, dataSourceProperties.determineUrl(), "primario");
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = criarPool(dataSourceProperties, urls.get(i), "replica-" + i);
+            binder.bind("cadastro.replicas.hikari", Bindable.ofInstance(replica));
+            replicas.add(replica);
+        }
+
+        pools.add(primario);
+        pools.addAll(replicas);
+        meterRegistry.ifAvailable(registry -> {
+            MicrometerMetricsTrackerFactory metricas = new MicrometerMetricsTrackerFactory(registry);
+            pools.forEach(pool -> pool.setMetricsTrackerFactory(metricas));
+        });
+
+        return new LazyConnectionDataSourceProxy(new RoteadorReplicas(primario, replicas, intervaloNovaTentativaMs));
+    }
+
+    @PreDestroy
+    void encerrar() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource criarPool(DataSourceProperties dataSourceProperties, String url, String nome) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(nome);
+        return pool;
+    }
+}
@@ -0,0 +1,39 @@
+package com.lucas.cadastropessoas.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@Configuration
+@ConditionalOnProperty(name = "cadastro.threads-virtuais.habilitado", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService executorVirtual() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Threads virtuais exigem Java 21 ou superior (executando em Java "
+                            + Runtime.version().feature() + ").",
+                    e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> executorTomcatVirtual(ExecutorService executorVirtual) {
+        return protocolHandler -> protocolHandler.setExecutor(executorVirtual);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService executorVirtual) {
+        return new TaskExecutorAdapter(executorVirtual);
+    }
+}
@@ -0,0 +1,53 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
+import com.lucas.cadastropessoas.exception.FilaCheiaException;
+import com.lucas.cadastropessoas.exception.FilaEncerradaException;
+import com.lucas.cadastropessoas.exception.ProtocoloNaoEncontradoException;
+import com.lucas.cadastropessoas.ingestao.FilaCadastro;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/pessoa")
+@Profile("!reativo")
+@ConditionalOnProperty(name = "cadastro.ingestao.habilitada", havingValue = "true")
+public class CadastroAssincronoController {
+
+    private static final String RESPOSTA_ASSINCRONA = "respond-async";
+
+    @Autowired
+    private FilaCadastro filaCadastro;
+
+    // Sem o Prefer, o POST continua síncrono em PessoaController.
+    @PostMapping(headers = "Prefer=" + RESPOSTA_ASSINCRONA)
+    public ResponseEntity<SituacaoCadastroDTO> cadastrar(@RequestBody @Valid PessoaDTO pessoaDTO)
+            throws CampoInvalidoException, CpfJaCadastradoException, FilaCheiaException, FilaEncerradaException {
+        SituacaoCadastroDTO situacao = filaCadastro.enfileirar(pessoaDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/pessoa/protocolo/" + situacao.getProtocolo()))
+                .header("Preference-Applied", RESPOSTA_ASSINCRONA)
+                .body(situacao);
+    }
+
+    @GetMapping("/protocolo/{protocolo}")
+    public SituacaoCadastroDTO situacao(@PathVariable String protocolo) throws ProtocoloNaoEncontradoException {
+        return filaCadastro.situacao(protocolo);
+    }
+}
@@ -0,0 +1,80 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.ContatoNaoEncontradoException;
+import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.exception.PreCondicaoFalhouException;
+import com.lucas.cadastropessoas.exception.VersaoDesatualizadaException;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/pessoa/{pessoaId}/contatos")
+@Profile("!reativo")
+public class ContatoController {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @GetMapping
+    public List<ContatoDTO> buscar(@PathVariable Long pessoaId) throws PessoaNaoEncontradaException {
+        return pessoaService.buscarUm(pessoaId).getContatos();
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ContatoDTO adicionar(@PathVariable Long pessoaId, @RequestBody @Valid ContatoDTO contatoDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws PessoaNaoEncontradaException, PreCondicaoFalhouException {
+        Long versao = EtagPessoa.versao(ifMatch, pessoaId);
+        try {
+            return pessoaService.adicionarContato(pessoaId, contatoDTO, versao);
+        } catch (VersaoDesatualizadaException e) {
+            throw new PreCondicaoFalhouException(pessoaId);
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ContatoDTO atualizar(@PathVariable Long pessoaId, @PathVariable Long id,
+            @RequestBody @Valid ContatoDTO contatoDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ContatoNaoEncontradoException, PreCondicaoFalhouException {
+        Long versao = EtagPessoa.versao(ifMatch, pessoaId);
+        try {
+            return pessoaService.atualizarContato(pessoaId, id, contatoDTO, versao);
+        } catch (VersaoDesatualizadaException e) {
+            throw new PreCondicaoFalhouException(pessoaId);
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public void remover(@PathVariable Long pessoaId, @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws CampoInvalidoException, ContatoNaoEncontradoException, PreCondicaoFalhouException {
+        Long versao = EtagPessoa.versao(ifMatch, pessoaId);
+        try {
+            pessoaService.removerContato(pessoaId, id, versao);
+        } catch (VersaoDesatualizadaException e) {
+            throw new PreCondicaoFalhouException(pessoaId);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.lucas.cadastropessoas.dto.PaginaCursorDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.exception.PreCondicaoFalhouException;
+
+/**
+ * ETags das pessoas: a de uma pessoa é a sua versão; a de uma página é um hash dos IDs e versões do conteúdo (no
+ * resumo, que não traz a versão, dos próprios campos), calculado sem serializar o corpo. O de uma pessoa é forte, porque
+ * é comparado no If-Match, e as respostas que o levam variam por {@code Accept}; o Tomcat não comprime essas respostas.
+ * Os das páginas, usados só no If-None-Match, são fracos e podem ser comprimidos.
+ */
+class EtagPessoa {
+
+    private static final String FRACO = "W/";
+
+    static String daVersao(Long versao) {
+        return versao == null ? null : "\"" + versao + "\"";
+    }
+
+    static String doConteudo(long total, List<PessoaDTO> pessoas) {
+        return FRACO + "\"" + Long.toHexString(hash(total, pessoas)) + "\"";
+    }
+
+    // O próximo cursor entra no hash: a última página não muda quando outras pessoas são cadastradas depois dela, mas
+    // deixa de ser a última.
+    static String doCursor(PaginaCursorDTO<PessoaDTO> pagina) {
+        long hash = 31 * hash(pagina.getRegistros(), pagina.getConteudo()) + Objects.hashCode(pagina.getProximo());
+        return FRACO + "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    static String doResumo(long total, List<PessoaResumoDTO> pessoas) {
+        long hash = total;
+        for (PessoaResumoDTO pessoa : pessoas) {
+            hash = 31 * hash + pessoa.hashCode();
+        }
+        return FRACO + "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long hash(long total, List<PessoaDTO> pessoas) {
+        long hash = total;
+        for (PessoaDTO pessoa : pessoas) {
+            hash = 31 * hash + pessoa.getId();
+            hash = 31 * hash + (pessoa.getVersao() == null ? -1 : pessoa.getVersao());
+        }
+        return hash;
+    }
+
+    /**
+     * Converte o cabeçalho If-Match na versão esperada; {@code null} quando ausente ou {@code *}. A comparação é forte:
+     * um ETag fraco nunca casa.
+     */
+    static Long versao(String ifMatch, Long id) throws PreCondicaoFalhouException {
+        if (ifMatch == null || ifMatch.strip().equals("*")) {
+            return null;
+        }
+
+        String etag = ifMatch.strip();
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            throw new PreCondicaoFalhouException(id);
+        }
+
+        try {
+            return Long.valueOf(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreCondicaoFalhouException(id);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exportacao.ExportacaoPessoas;
+import com.lucas.cadastropessoas.exportacao.ExportacaoPessoas.Formato;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/pessoa")
+@Profile("!reativo")
+public class ExportacaoController {
+
+    @Autowired
+    private ExportacaoPessoas exportacaoPessoas;
+
+    // Escreve direto na resposta, sem montar o corpo em memória; "apos" retoma a partir do último ID recebido.
+    @GetMapping("/export")
+    public void exportar(
+            @RequestParam(value = "formato", required = false, defaultValue = "ndjson") String formato,
+            @RequestParam(value = "apos", required = false, defaultValue = "0") long apos,
+            HttpServletResponse response) throws CampoInvalidoException, IOException {
+        Formato formatoExportacao = Formato.de(formato);
+
+        response.setContentType(formatoExportacao.getTipo());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        exportacaoPessoas.exportar(apos, formatoExportacao, response.getOutputStream());
+    }
+}
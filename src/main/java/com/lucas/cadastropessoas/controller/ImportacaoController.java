@@ -0,0 +1,56 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lucas.cadastropessoas.dto.ResultadoImportacaoDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.ProtocoloNaoEncontradoException;
+import com.lucas.cadastropessoas.importacao.ImportacaoPessoas;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/pessoa")
+@Profile("!reativo")
+public class ImportacaoController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private ImportacaoPessoas importacaoPessoas;
+
+    // Lê o corpo direto da requisição, sem montá-lo em memória; aceita o arquivo comprimido com Content-Encoding: gzip.
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResultadoImportacaoDTO importar(HttpServletRequest request)
+            throws CampoInvalidoException, IOException, SQLException {
+        InputStream entrada = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            entrada = new GZIPInputStream(entrada, 65_536);
+        }
+        return importacaoPessoas.importar(entrada);
+    }
+
+    @GetMapping("/import/{protocolo}/rejeitadas")
+    public ResponseEntity<Resource> rejeitadas(@PathVariable String protocolo)
+            throws ProtocoloNaoEncontradoException {
+        return ResponseEntity.ok()
+                .contentType(CSV)
+                .body(new FileSystemResource(importacaoPessoas.rejeicoes(protocolo)));
+    }
+}
@@ -1,60 +1,213 @@
 package com.lucas.cadastropessoas.controller;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import com.lucas.cadastropessoas.dto.AtualizacaoMassaDTO;
+import com.lucas.cadastropessoas.dto.FiltroMassaDTO;
+import com.lucas.cadastropessoas.dto.LoteDTO;
+import com.lucas.cadastropessoas.dto.PaginaCursorDTO;
 import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.dto.PessoasPorIdDTO;
+import com.lucas.cadastropessoas.dto.ResultadoMassaDTO;
 import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
 import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.exception.PreCondicaoFalhouException;
+import com.lucas.cadastropessoas.exception.VersaoDesatualizadaException;
+import com.lucas.cadastropessoas.exception.VersaoObrigatoriaException;
 import com.lucas.cadastropessoas.service.PessoaService;
 
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/pessoa")
+@Profile("!reativo")
 public class PessoaController {
 
     @Autowired
     private PessoaService pessoaService;
 
+    @Value("${cadastro.http.max-age:0s}")
+    private Duration maxAge;
+
     @PostMapping()
     @ResponseStatus(HttpStatus.CREATED)
-    public PessoaDTO cadastrar(@RequestBody @Valid PessoaDTO pessoaDTO) throws CampoInvalidoException {
+    public PessoaDTO cadastrar(@RequestBody @Valid PessoaDTO pessoaDTO)
+            throws CampoInvalidoException, CpfJaCadastradoException {
         return pessoaService.cadastrar(pessoaDTO);
     }
 
+    @PostMapping("/lote")
+    public LoteDTO cadastrarLote(@RequestBody List<PessoaDTO> pessoasDTO) {
+        return pessoaService.cadastrarLote(pessoasDTO);
+    }
+
+    @PatchMapping("/lote")
+    public ResultadoMassaDTO atualizarEmMassa(@RequestBody AtualizacaoMassaDTO atualizacao)
+            throws CampoInvalidoException {
+        return pessoaService.atualizarEmMassa(atualizacao);
+    }
+
+    @PostMapping("/lote/exclusao")
+    public ResultadoMassaDTO excluirEmMassa(@RequestBody FiltroMassaDTO filtro) throws CampoInvalidoException {
+        return pessoaService.excluirEmMassa(filtro);
+    }
+
     @GetMapping("/{id}")
-    public PessoaDTO buscarUm(@PathVariable Long id) throws PessoaNaoEncontradaException {
-        return pessoaService.buscarUm(id);
+    public ResponseEntity<PessoaDTO> buscarUm(@PathVariable Long id) throws PessoaNaoEncontradaException {
+        PessoaDTO pessoaDTO = pessoaService.buscarUm(id);
+        return ResponseEntity.ok()
+                .eTag(EtagPessoa.daVersao(pessoaDTO.getVersao()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl())
+                .body(pessoaDTO);
+    }
+
+    @GetMapping(params = "ids")
+    public PessoasPorIdDTO buscarPorIds(@RequestParam(value = "ids") List<Long> ids) throws CampoInvalidoException {
+        return pessoaService.buscarPorIds(ids);
+    }
+
+    @GetMapping("/cpf/{cpf}")
+    public PessoaDTO buscarPorCpf(@PathVariable String cpf)
+            throws CampoInvalidoException, PessoaNaoEncontradaException {
+        return pessoaService.buscarPorCpf(cpf);
+    }
+
+    @GetMapping("/busca")
+    public List<PessoaResumoDTO> buscarPorNome(
+            @RequestParam(value = "nome") String nome,
+            @RequestParam(value = "limite", required = false, defaultValue = "10") int limite)
+            throws CampoInvalidoException {
+        return pessoaService.buscarPorNome(nome, limite);
     }
 
     @GetMapping("/paginar")
-    public Page<PessoaDTO> buscaPaginada(
+    public ResponseEntity<Page<PessoaDTO>> buscaPaginada(
             @RequestParam(value = "registros", required = false, defaultValue = "5") int registros,
             @RequestParam(value = "pagina", required = false, defaultValue = "0") int pagina) {
-        return pessoaService.buscaPaginada(pagina, registros);
+        Page<PessoaDTO> paginaPessoas = pessoaService.buscaPaginada(pagina, registros);
+        return ResponseEntity.ok()
+                .eTag(EtagPessoa.doConteudo(paginaPessoas.getTotalElements(), paginaPessoas.getContent()))
+                .cacheControl(cacheControl())
+                .body(paginaPessoas);
+    }
+
+    @GetMapping(value = "/paginar", params = { "campos=resumo", "!apos" })
+    public ResponseEntity<Page<PessoaResumoDTO>> buscaPaginadaResumo(
+            @RequestParam(value = "registros", required = false, defaultValue = "5") int registros,
+            @RequestParam(value = "pagina", required = false, defaultValue = "0") int pagina) {
+        Page<PessoaResumoDTO> paginaPessoas = pessoaService.buscaPaginadaResumo(pagina, registros);
+        return ResponseEntity.ok()
+                .eTag(EtagPessoa.doResumo(paginaPessoas.getTotalElements(), paginaPessoas.getContent()))
+                .cacheControl(cacheControl())
+                .body(paginaPessoas);
+    }
+
+    @GetMapping(value = "/paginar", params = "apos")
+    public ResponseEntity<PaginaCursorDTO<PessoaDTO>> buscaPorCursor(
+            @RequestParam(value = "registros", required = false, defaultValue = "5") int registros,
+            @RequestParam(value = "apos") String apos) throws CampoInvalidoException {
+        PaginaCursorDTO<PessoaDTO> paginaPessoas = pessoaService.buscaPorCursor(apos, registros);
+        return ResponseEntity.ok()
+                .eTag(EtagPessoa.doCursor(paginaPessoas))
+                .cacheControl(cacheControl())
+                .body(paginaPessoas);
     }
 
     @DeleteMapping("/{id}")
-    public void deletar(@PathVariable Long id) {
-        pessoaService.deletar(id);
+    public void deletar(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws PreCondicaoFalhouException {
+        Long versao = EtagPessoa.versao(ifMatch, id);
+        if (versao == null) {
+            pessoaService.deletar(id);
+            return;
+        }
+
+        try {
+            pessoaService.deletar(id, versao);
+        } catch (VersaoDesatualizadaException e) {
+            throw new PreCondicaoFalhouException(id);
+        }
     }
 
     @PutMapping("/{id}")
-    public PessoaDTO atualizar(@PathVariable Long id, @RequestBody PessoaDTO pessoaDTO)
-            throws CampoInvalidoException, PessoaNaoEncontradaException {
-        return pessoaService.atualizar(id, pessoaDTO);
+    public ResponseEntity<PessoaDTO> atualizar(@PathVariable Long id, @RequestBody PessoaDTO pessoaDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws CampoInvalidoException, PessoaNaoEncontradaException, CpfJaCadastradoException,
+            VersaoDesatualizadaException, PreCondicaoFalhouException {
+        Long versao = EtagPessoa.versao(ifMatch, id);
+        if (versao != null) {
+            pessoaDTO.setVersao(versao);
+        }
+
+        PessoaDTO pessoaAtualizada;
+        try {
+            pessoaAtualizada = pessoaService.atualizar(id, pessoaDTO);
+        } catch (VersaoDesatualizadaException e) {
+            if (versao != null) {
+                throw new PreCondicaoFalhouException(id);
+            }
+            throw e;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(EtagPessoa.daVersao(pessoaAtualizada.getVersao()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(pessoaAtualizada);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> atualizarParcial(@PathVariable Long id, @RequestBody PessoaParcialDTO pessoaParcialDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws CampoInvalidoException, PessoaNaoEncontradaException, CpfJaCadastradoException,
+            VersaoDesatualizadaException, PreCondicaoFalhouException, VersaoObrigatoriaException {
+        // Sem a versão, o PATCH sobrescreveria alterações concorrentes sem perceber.
+        Long versao = EtagPessoa.versao(ifMatch, id);
+        if (versao != null) {
+            pessoaParcialDTO.setVersao(versao);
+        } else if (pessoaParcialDTO.getVersao() == null) {
+            throw new VersaoObrigatoriaException(id);
+        }
+
+        try {
+            pessoaService.atualizarParcial(id, pessoaParcialDTO);
+        } catch (VersaoDesatualizadaException e) {
+            if (versao != null) {
+                throw new PreCondicaoFalhouException(id);
+            }
+            throw e;
+        }
+
+        return ResponseEntity.noContent().eTag(EtagPessoa.daVersao(pessoaParcialDTO.getVersao() + 1)).build();
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
 }
@@ -0,0 +1,82 @@
+package com.lucas.cadastropessoas.controller;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaReativaService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/pessoa")
+@Profile("reativo")
+public class PessoaReativaController {
+
+    @Autowired
+    private PessoaReativaService pessoaReativaService;
+
+    @Value("${cadastro.http.max-age:0s}")
+    private Duration maxAge;
+
+    @PostMapping()
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<PessoaDTO> cadastrar(@RequestBody @Valid PessoaDTO pessoaDTO) {
+        return pessoaReativaService.cadastrar(pessoaDTO);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PessoaDTO>> buscarUm(@PathVariable Long id) {
+        return pessoaReativaService.buscarUm(id)
+                .map(pessoaDTO -> ResponseEntity.ok()
+                        .eTag(EtagPessoa.daVersao(pessoaDTO.getVersao()))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .cacheControl(cacheControl())
+                        .body(pessoaDTO));
+    }
+
+    @GetMapping("/paginar")
+    public Mono<ResponseEntity<Page<PessoaDTO>>> buscaPaginada(
+            @RequestParam(value = "registros", required = false, defaultValue = "5") int registros,
+            @RequestParam(value = "pagina", required = false, defaultValue = "0") int pagina) {
+        return pessoaReativaService.buscaPaginada(pagina, registros)
+                .map(paginaPessoas -> ResponseEntity.ok()
+                        .eTag(EtagPessoa.doConteudo(paginaPessoas.getTotalElements(), paginaPessoas.getContent()))
+                        .cacheControl(cacheControl())
+                        .body(paginaPessoas));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> deletar(@PathVariable Long id) {
+        return pessoaReativaService.deletar(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<PessoaDTO> atualizar(@PathVariable Long id, @RequestBody PessoaDTO pessoaDTO) {
+        return pessoaReativaService.atualizar(id, pessoaDTO);
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.lucas.cadastropessoas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class AtualizacaoMassaDTO {
+
+    private FiltroMassaDTO filtro;
+
+    private PessoaParcialDTO alteracoes;
+}
@@ -0,0 +1,20 @@
+package com.lucas.cadastropessoas.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class FiltroMassaDTO {
+
+    private List<Long> ids;
+
+    private Date cadastradasDe;
+
+    private Date cadastradasAte;
+}
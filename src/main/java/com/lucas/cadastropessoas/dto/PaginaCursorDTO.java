@@ -0,0 +1,19 @@
+package com.lucas.cadastropessoas.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PaginaCursorDTO<T> {
+
+    private List<T> conteudo;
+
+    private int registros;
+
+    private String proximo;
+}
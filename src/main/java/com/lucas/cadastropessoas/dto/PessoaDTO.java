@@ -3,9 +3,10 @@ package com.lucas.cadastropessoas.dto;
 import java.util.Date;
 import java.util.List;
 
-import org.hibernate.validator.constraints.br.CPF;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import com.lucas.cadastropessoas.validator.CpfValido;
+
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -27,7 +28,7 @@ public class PessoaDTO {
 
     @NotNull
     @NotEmpty
-    @CPF
+    @CpfValido
     private String cpf;
 
     @NotNull
@@ -39,4 +40,6 @@ public class PessoaDTO {
     @NotEmpty
     @Valid
     private List<ContatoDTO> contatos;
+
+    private Long versao;
 }
@@ -0,0 +1,21 @@
+package com.lucas.cadastropessoas.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PessoaParcialDTO {
+
+    private String nome;
+
+    private String cpf;
+
+    private Date dataNascimento;
+
+    private Long versao;
+}
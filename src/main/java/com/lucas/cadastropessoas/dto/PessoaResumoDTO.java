@@ -0,0 +1,17 @@
+package com.lucas.cadastropessoas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PessoaResumoDTO {
+
+    private Long id;
+
+    private String nome;
+
+    private String cpf;
+}
@@ -0,0 +1,17 @@
+package com.lucas.cadastropessoas.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class PessoasPorIdDTO {
+
+    private List<PessoaDTO> pessoas;
+
+    private List<Long> naoEncontrados;
+}
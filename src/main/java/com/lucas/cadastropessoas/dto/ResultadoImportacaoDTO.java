@@ -0,0 +1,23 @@
+package com.lucas.cadastropessoas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ResultadoImportacaoDTO {
+
+    private String protocolo;
+
+    private long linhas;
+
+    private long pessoas;
+
+    private long contatos;
+
+    private long rejeitadas;
+
+    private long duracaoMs;
+}
@@ -0,0 +1,23 @@
+package com.lucas.cadastropessoas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class SituacaoCadastroDTO {
+
+    public enum Situacao {
+        PENDENTE, GRAVADO, FALHOU
+    }
+
+    private String protocolo;
+
+    private Situacao situacao;
+
+    private Long id;
+
+    private String mensagem;
+}
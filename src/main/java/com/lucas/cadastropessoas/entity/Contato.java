@@ -3,7 +3,9 @@ package com.lucas.cadastropessoas.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @AllArgsConstructor
@@ -11,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Data
 public class Contato {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contato_seq")
+    @SequenceGenerator(name = "contato_seq", sequenceName = "contato_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 255, nullable = false)
@@ -22,4 +25,11 @@ public class Contato {
 
     @Column(length = 255, nullable = false)
     private String email;
+
+    // Dono da chave estrangeira: o INSERT já grava o pessoa_id, sem um UPDATE posterior.
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pessoa_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Pessoa pessoa;
 }
@@ -3,19 +3,24 @@ package com.lucas.cadastropessoas.entity;
 import java.util.Date;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "pessoa")
+@DynamicUpdate
+@Table(name = "pessoa", indexes = @Index(name = "pessoa_cpf_idx", columnList = "cpf", unique = true))
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Pessoa {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoa_seq")
+    @SequenceGenerator(name = "pessoa_seq", sequenceName = "pessoa_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 255, nullable = false)
@@ -28,7 +33,15 @@ public class Pessoa {
     @Temporal(TemporalType.DATE)
     private Date dataNascimento;
 
-    @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "pessoa_id", nullable = false)
+    @OneToMany(mappedBy = "pessoa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Contato> contatos;
+
+    @Version
+    private Long versao;
+
+    // Preenchida pelo banco.
+    @Column(name = "data_cadastro", insertable = false, updatable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date dataCadastro;
 }
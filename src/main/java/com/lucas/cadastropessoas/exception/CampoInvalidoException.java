@@ -5,7 +5,15 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class CampoInvalidoException extends Exception {
+
+    private final String campo;
+
     public CampoInvalidoException(String campo) {
         super(String.format("Campo %s inválido.", campo));
+        this.campo = campo;
+    }
+
+    public String getCampo() {
+        return campo;
     }
 }
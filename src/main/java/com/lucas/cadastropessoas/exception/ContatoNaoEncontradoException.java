@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ContatoNaoEncontradoException extends Exception {
+    public ContatoNaoEncontradoException(Long pessoaId, Long id) {
+        super(String.format("Contato com o ID %d não encontrado na pessoa com o ID %d.", id, pessoaId));
+    }
+}
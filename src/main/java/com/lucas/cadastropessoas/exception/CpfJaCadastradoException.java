@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CpfJaCadastradoException extends Exception {
+    public CpfJaCadastradoException(String cpf) {
+        super(String.format("Pessoa com o CPF %s já cadastrada.", cpf));
+    }
+}
@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class FilaCheiaException extends Exception {
+    public FilaCheiaException() {
+        super("A fila de cadastros está cheia. Tente novamente em instantes.");
+    }
+}
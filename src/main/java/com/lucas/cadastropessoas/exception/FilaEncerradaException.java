@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class FilaEncerradaException extends Exception {
+    public FilaEncerradaException() {
+        super("A fila de cadastros está sendo encerrada. Tente novamente em outra instância.");
+    }
+}
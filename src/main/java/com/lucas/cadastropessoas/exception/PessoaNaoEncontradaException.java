@@ -8,4 +8,8 @@ public class PessoaNaoEncontradaException extends Exception {
     public PessoaNaoEncontradaException(Long id) {
         super(String.format("Pessoa com o ID %d não encontrada.", id));
     }
+
+    public PessoaNaoEncontradaException(String cpf) {
+        super(String.format("Pessoa com o CPF %s não encontrada.", cpf));
+    }
 }
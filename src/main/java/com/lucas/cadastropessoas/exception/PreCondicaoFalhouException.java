@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreCondicaoFalhouException extends Exception {
+    public PreCondicaoFalhouException(Long id) {
+        super(String.format("Pessoa com o ID %d não está na versão informada em If-Match.", id));
+    }
+}
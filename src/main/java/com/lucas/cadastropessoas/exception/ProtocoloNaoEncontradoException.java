@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ProtocoloNaoEncontradoException extends Exception {
+    public ProtocoloNaoEncontradoException(String protocolo) {
+        super(String.format("Protocolo %s não encontrado.", protocolo));
+    }
+}
@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersaoDesatualizadaException extends Exception {
+    public VersaoDesatualizadaException(Long id) {
+        super(String.format("Pessoa com o ID %d foi alterada por outra requisição.", id));
+    }
+}
@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class VersaoObrigatoriaException extends Exception {
+    public VersaoObrigatoriaException(Long id) {
+        super(String.format("Informe a versão da pessoa com o ID %d em If-Match ou no campo versao.", id));
+    }
+}
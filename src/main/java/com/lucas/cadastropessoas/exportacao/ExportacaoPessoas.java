@@ -0,0 +1,149 @@
+package com.lucas.cadastropessoas.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.repository.PessoaRepository;
+
+/**
+ * Exporta todas as pessoas com os contatos, em ordem de ID, a partir de um cursor no banco. Cada pessoa é escrita
+ * assim que a sua última linha chega, então a memória usada não depende do tamanho da tabela.
+ */
+@Component
+public class ExportacaoPessoas {
+
+    private static final String CABECALHO_CSV = "id,nome,cpf,data_nascimento,versao,contato_id,contato_nome,"
+            + "contato_telefone,contato_email";
+
+    public enum Formato {
+        NDJSON(MediaType.APPLICATION_NDJSON_VALUE), CSV("text/csv");
+
+        private final String tipo;
+
+        Formato(String tipo) {
+            this.tipo = tipo;
+        }
+
+        public String getTipo() {
+            return tipo;
+        }
+
+        public static Formato de(String nome) throws CampoInvalidoException {
+            for (Formato formato : values()) {
+                if (formato.name().equalsIgnoreCase(nome)) {
+                    return formato;
+                }
+            }
+            throw new CampoInvalidoException("formato");
+        }
+    }
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportar(long apos, Formato formato, OutputStream saida) throws IOException {
+        try (Stream<LinhaExportacao> linhas = pessoaRepository.exportar(apos)) {
+            if (formato == Formato.CSV) {
+                exportarCsv(linhas.iterator(), saida);
+            } else {
+                exportarNdjson(linhas.iterator(), saida);
+            }
+        }
+    }
+
+    private void exportarNdjson(Iterator<LinhaExportacao> linhas, OutputStream saida) throws IOException {
+        // Sem flush por pessoa: o Tomcat envia a resposta conforme o buffer enche, e o gzip comprime melhor.
+        ObjectWriter escritor = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            PessoaDTO atual = null;
+            while (linhas.hasNext()) {
+                LinhaExportacao linha = linhas.next();
+                if (atual == null || !atual.getId().equals(linha.id())) {
+                    escrever(escritor, gerador, atual);
+                    atual = new PessoaDTO(linha.id(), linha.nome(), linha.cpf(), linha.dataNascimento(),
+                            new ArrayList<>(), linha.versao());
+                }
+                if (linha.contatoId() != null) {
+                    atual.getContatos().add(new ContatoDTO(linha.contatoId(), linha.contatoNome(),
+                            linha.contatoTelefone(), linha.contatoEmail()));
+                }
+            }
+            escrever(escritor, gerador, atual);
+        }
+    }
+
+    private void escrever(ObjectWriter escritor, JsonGenerator gerador, PessoaDTO pessoa) throws IOException {
+        if (pessoa != null) {
+            escritor.writeValue(gerador, pessoa);
+            gerador.writeRaw('\n');
+        }
+    }
+
+    // Uma linha por contato, com os campos da pessoa repetidos.
+    private void exportarCsv(Iterator<LinhaExportacao> linhas, OutputStream saida) throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write(CABECALHO_CSV);
+        escritor.write('\n');
+
+        while (linhas.hasNext()) {
+            LinhaExportacao linha = linhas.next();
+            escritor.write(String.join(",",
+                    String.valueOf(linha.id()),
+                    csv(linha.nome()),
+                    csv(linha.cpf()),
+                    data(linha.dataNascimento()),
+                    linha.versao() == null ? "" : String.valueOf(linha.versao()),
+                    linha.contatoId() == null ? "" : String.valueOf(linha.contatoId()),
+                    csv(linha.contatoNome()),
+                    csv(linha.contatoTelefone()),
+                    csv(linha.contatoEmail())));
+            escritor.write('\n');
+        }
+        escritor.flush();
+    }
+
+    private static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String data(Date data) {
+        if (data == null) {
+            return "";
+        }
+        return data instanceof java.sql.Date dataSql
+                ? dataSql.toLocalDate().toString()
+                : new java.sql.Date(data.getTime()).toLocalDate().toString();
+    }
+}
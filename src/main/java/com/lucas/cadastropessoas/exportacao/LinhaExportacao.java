@@ -0,0 +1,11 @@
+package com.lucas.cadastropessoas.exportacao;
+
+import java.util.Date;
+
+/**
+ * Uma linha do JOIN de pessoa com contato, projetada direto da consulta. Pessoas sem contatos vêm com os campos do
+ * contato nulos.
+ */
+public record LinhaExportacao(Long id, String nome, String cpf, Date dataNascimento, Long versao, Long contatoId,
+        String contatoNome, String contatoTelefone, String contatoEmail) {
+}
@@ -0,0 +1,130 @@
+package com.lucas.cadastropessoas.importacao;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Grava as linhas válidas na tabela temporária da importação. No PostgreSQL usa um único {@code COPY ... FROM STDIN}
+ * aberto durante todo o arquivo; nos demais bancos, como o H2 dos testes, usa {@code INSERT} em lote.
+ */
+interface CargaTemporaria {
+
+    String COLUNAS = "linha, nome, cpf, data_nascimento, contato_nome, contato_telefone, contato_email";
+
+    void carregar(List<LinhaImportacao> linhas) throws SQLException;
+
+    void concluir() throws SQLException;
+
+    void cancelar();
+
+    static CargaTemporaria abrir(Connection conexao, String tabela) throws SQLException {
+        if (conexao.isWrapperFor(PGConnection.class)) {
+            return new Copy(conexao, tabela);
+        }
+        return new Insercao(conexao, tabela);
+    }
+
+    class Copy implements CargaTemporaria {
+
+        private final Connection conexao;
+
+        private final String tabela;
+
+        private final CopyIn copyIn;
+
+        Copy(Connection conexao, String tabela) throws SQLException {
+            this.conexao = conexao;
+            this.tabela = tabela;
+            this.copyIn = conexao.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + tabela + " (" + COLUNAS + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        public void carregar(List<LinhaImportacao> linhas) throws SQLException {
+            StringBuilder bloco = new StringBuilder(linhas.size() * 128);
+            for (LinhaImportacao linha : linhas) {
+                bloco.append(linha.linha()).append(',');
+                texto(bloco, linha.nome()).append(',');
+                bloco.append(linha.cpf()).append(',');
+                bloco.append(linha.dataNascimento()).append(',');
+                texto(bloco, linha.contatoNome()).append(',');
+                texto(bloco, linha.contatoTelefone()).append(',');
+                texto(bloco, linha.contatoEmail()).append('\n');
+            }
+
+            byte[] bytes = bloco.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        }
+
+        // Sem estatísticas, o planejador estima o tamanho da tabela temporária e pode escolher mal as junções.
+        @Override
+        public void concluir() throws SQLException {
+            copyIn.endCopy();
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("ANALYZE " + tabela);
+            }
+        }
+
+        @Override
+        public void cancelar() {
+            try {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            } catch (SQLException e) {
+                // A transação será desfeita de qualquer forma.
+            }
+        }
+
+        private static StringBuilder texto(StringBuilder bloco, String valor) {
+            return bloco.append('"').append(valor.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    class Insercao implements CargaTemporaria {
+
+        private final PreparedStatement insercao;
+
+        Insercao(Connection conexao, String tabela) throws SQLException {
+            this.insercao = conexao.prepareStatement(
+                    "INSERT INTO " + tabela + " (" + COLUNAS + ") VALUES (?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        @Override
+        public void carregar(List<LinhaImportacao> linhas) throws SQLException {
+            for (LinhaImportacao linha : linhas) {
+                insercao.setLong(1, linha.linha());
+                insercao.setString(2, linha.nome());
+                insercao.setString(3, linha.cpf());
+                insercao.setDate(4, Date.valueOf(linha.dataNascimento()));
+                insercao.setString(5, linha.contatoNome());
+                insercao.setString(6, linha.contatoTelefone());
+                insercao.setString(7, linha.contatoEmail());
+                insercao.addBatch();
+            }
+            insercao.executeBatch();
+        }
+
+        @Override
+        public void concluir() throws SQLException {
+            insercao.close();
+        }
+
+        @Override
+        public void cancelar() {
+            try {
+                insercao.close();
+            } catch (SQLException e) {
+                // A transação será desfeita de qualquer forma.
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package com.lucas.cadastropessoas.importacao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lucas.cadastropessoas.busca.IndiceNomes;
+import com.lucas.cadastropessoas.busca.IndiceNomesMemoria;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.dto.ResultadoImportacaoDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
+import com.lucas.cadastropessoas.exception.ProtocoloNaoEncontradoException;
+import com.lucas.cadastropessoas.metricas.ContadorFalhasValidacao;
+import com.lucas.cadastropessoas.service.FiltroCPF;
+import com.lucas.cadastropessoas.validator.ValidarCPF;
+import com.lucas.cadastropessoas.validator.ValidarDataFutura;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
+
+/**
+ * Importa pessoas e contatos de um CSV no formato da exportação, uma linha por contato. O arquivo é lido em blocos de
+ * {@code cadastro.importacao.tamanho-bloco} linhas, com os CPFs de cada bloco validados de uma vez, e as linhas válidas
+ * são copiadas para um arquivo local. No fim do arquivo, uma transação as carrega em uma tabela temporária e as mescla
+ * em {@code pessoa} e {@code contato} com um comando por tabela. As linhas recusadas, inclusive as de CPF já
+ * cadastrado, ficam em um arquivo de rejeições por {@code cadastro.importacao.retencao}.
+ */
+@Component
+public class ImportacaoPessoas {
+
+    private static final String TEMPORARIA = "importacao_linha";
+
+    private static final String[] COLUNAS = { "nome", "cpf", "data_nascimento", "contato_nome", "contato_telefone",
+            "contato_email" };
+
+    private static final int NOME = 0, CPF = 1, DATA_NASCIMENTO = 2, CONTATO_NOME = 3, CONTATO_TELEFONE = 4,
+            CONTATO_EMAIL = 5;
+
+    private static final int TAMANHO_TEXTO = 255;
+
+    private static final int TAMANHO_TELEFONE = 11;
+
+    private static final int TAMANHO_LEITURA = 10_000;
+
+    private static final String CABECALHO_REJEICOES = "linha,cpf,motivo";
+
+    private static final String EXTENSAO_VALIDAS = ".validas";
+
+    // ON COMMIT DROP: a tabela some com a transação e importações simultâneas não se enxergam.
+    private static final String CRIA_TEMPORARIA = """
+            CREATE LOCAL TEMPORARY TABLE importacao_linha (
+                linha BIGINT NOT NULL,
+                nome VARCHAR(255) NOT NULL,
+                cpf VARCHAR(11) NOT NULL,
+                data_nascimento DATE NOT NULL,
+                contato_nome VARCHAR(255) NOT NULL,
+                contato_telefone VARCHAR(11) NOT NULL,
+                contato_email VARCHAR(255) NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String BUSCA_CADASTRADOS = """
+            SELECT s.linha, s.cpf FROM importacao_linha s
+            WHERE EXISTS (SELECT 1 FROM pessoa p WHERE p.cpf = s.cpf)
+            ORDER BY s.linha
+            """;
+
+    private static final String EXCLUI_CADASTRADOS = """
+            DELETE FROM importacao_linha s WHERE EXISTS (SELECT 1 FROM pessoa p WHERE p.cpf = s.cpf)
+            """;
+
+    // Os dados da pessoa vêm da primeira linha do CPF no arquivo. Cada nextval reserva um bloco inteiro do otimizador
+    // pooled do Hibernate (allocationSize 50), então o valor devolvido nunca é entregue à aplicação.
+    private static final String INSERE_PESSOAS = """
+            INSERT INTO pessoa (id, nome, cpf, data_nascimento, versao)
+            SELECT nextval('pessoa_seq'), s.nome, s.cpf, s.data_nascimento, 0
+            FROM (
+                SELECT nome, cpf, data_nascimento, row_number() OVER (PARTITION BY cpf ORDER BY linha) AS ordem
+                FROM importacao_linha
+            ) s
+            WHERE s.ordem = 1
+            """;
+
+    private static final String INSERE_CONTATOS = """
+            INSERT INTO contato (id, nome, telefone, email, pessoa_id)
+            SELECT nextval('contato_seq'), s.contato_nome, s.contato_telefone, s.contato_email, p.id
+            FROM importacao_linha s
+            JOIN pessoa p ON p.cpf = s.cpf
+            """;
+
+    private static final String BUSCA_IMPORTADAS = """
+            SELECT p.id, p.nome, p.cpf FROM pessoa p WHERE p.cpf IN (SELECT s.cpf FROM importacao_linha s)
+            """;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private FiltroCPF filtroCPF;
+
+    @Autowired
+    private IndiceNomes indiceNomes;
+
+    @Autowired
+    private ContadorFalhasValidacao contadorFalhasValidacao;
+
+    @Value("${cadastro.importacao.tamanho-bloco:10000}")
+    private int tamanhoBloco;
+
+    @Value("${cadastro.importacao.diretorio:${java.io.tmpdir}/cadastro-importacao}")
+    private Path diretorio;
+
+    @Value("${cadastro.importacao.retencao:24h}")
+    private Duration retencao;
+
+    @PostConstruct
+    void iniciar() throws IOException {
+        Files.createDirectories(diretorio);
+    }
+
+    // O corpo é validado e copiado para um arquivo antes de a transação começar: uma conexão do pool só fica presa
+    // durante a carga e a mescla, e não enquanto o cliente envia o arquivo.
+    public ResultadoImportacaoDTO importar(InputStream entrada)
+            throws CampoInvalidoException, IOException, SQLException {
+        long inicio = System.nanoTime();
+        removerRejeicoesAntigas();
+
+        LeitorCsv leitor = new LeitorCsv(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        int[] colunas = colunas(leitor.proximo());
+
+        String protocolo = UUID.randomUUID().toString();
+        Path arquivoRejeicoes = diretorio.resolve(protocolo + ".csv");
+        Path arquivoValidas = diretorio.resolve(protocolo + EXTENSAO_VALIDAS);
+
+        try (Writer rejeicoes = Files.newBufferedWriter(arquivoRejeicoes, StandardCharsets.UTF_8)) {
+            rejeicoes.write(CABECALHO_REJEICOES);
+            rejeicoes.write('\n');
+
+            long linhas = 0;
+            long rejeitadas = 0;
+            try (Writer validas = Files.newBufferedWriter(arquivoValidas, StandardCharsets.UTF_8)) {
+                List<String[]> bloco = new ArrayList<>(tamanhoBloco);
+                List<Long> numeros = new ArrayList<>(tamanhoBloco);
+                String[] registro;
+                while ((registro = leitor.proximo()) != null) {
+                    if (registro.length == 1 && registro[0].isBlank()) {
+                        continue;
+                    }
+                    bloco.add(registro);
+                    numeros.add(leitor.linhaRegistro());
+
+                    if (bloco.size() == tamanhoBloco) {
+                        linhas += bloco.size();
+                        rejeitadas += validarBloco(bloco, numeros, colunas, validas, rejeicoes);
+                    }
+                }
+                if (!bloco.isEmpty()) {
+                    linhas += bloco.size();
+                    rejeitadas += validarBloco(bloco, numeros, colunas, validas, rejeicoes);
+                }
+            }
+
+            Mescla mescla;
+            try {
+                mescla = transactionTemplate.execute(status -> {
+                    Connection conexao = DataSourceUtils.getConnection(dataSource);
+                    try {
+                        return mesclar(conexao, arquivoValidas, rejeicoes);
+                    } catch (IOException | SQLException e) {
+                        throw new FalhaMescla(e);
+                    } finally {
+                        DataSourceUtils.releaseConnection(conexao, dataSource);
+                    }
+                });
+            } catch (FalhaMescla e) {
+                if (e.getCause() instanceof IOException causa) {
+                    throw causa;
+                }
+                throw (SQLException) e.getCause();
+            }
+
+            return new ResultadoImportacaoDTO(protocolo, linhas, mescla.pessoas(), mescla.contatos(),
+                    rejeitadas + mescla.cadastrados(), (System.nanoTime() - inicio) / 1_000_000);
+        } catch (Throwable e) {
+            Files.deleteIfExists(arquivoRejeicoes);
+            throw e;
+        } finally {
+            Files.deleteIfExists(arquivoValidas);
+        }
+    }
+
+    public Path rejeicoes(String protocolo) throws ProtocoloNaoEncontradoException {
+        Path arquivo;
+        try {
+            arquivo = diretorio.resolve(UUID.fromString(protocolo) + ".csv");
+        } catch (IllegalArgumentException e) {
+            throw new ProtocoloNaoEncontradoException(protocolo);
+        }
+
+        if (!Files.isRegularFile(arquivo)) {
+            throw new ProtocoloNaoEncontradoException(protocolo);
+        }
+        return arquivo;
+    }
+
+    // Os CPFs do bloco são validados de uma vez, por ValidarCPF.validarLote, e os demais campos linha a linha; só as
+    // linhas válidas vão para o arquivo da carga, na ordem do arquivo.
+    private int validarBloco(List<String[]> bloco, List<Long> numeros, int[] colunas, Writer validas,
+            Writer rejeicoes) throws IOException {
+        List<String> cpfs = new ArrayList<>(bloco.size());
+        bloco.forEach(registro -> cpfs.add(campo(registro, colunas[CPF])));
+        boolean[] cpfsValidos = ValidarCPF.validarLote(cpfs);
+
+        int rejeitadas = 0;
+        for (int i = 0; i < bloco.size(); i++) {
+            String cpf = cpfsValidos[i] ? ValidarCPF.semMascara(cpfs.get(i)) : null;
+            try {
+                copiar(validas, validar(numeros.get(i), bloco.get(i), colunas, cpf));
+            } catch (CampoInvalidoException e) {
+                contadorFalhasValidacao.registrar(e);
+                rejeitar(rejeicoes, numeros.get(i), cpfs.get(i), e.getMessage());
+                rejeitadas++;
+            }
+        }
+
+        bloco.clear();
+        numeros.clear();
+        return rejeitadas;
+    }
+
+    private Mescla mesclar(Connection conexao, Path arquivoValidas, Writer rejeicoes)
+            throws IOException, SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute(CRIA_TEMPORARIA);
+        }
+
+        CargaTemporaria carga = CargaTemporaria.abrir(conexao, TEMPORARIA);
+        try {
+            carregarValidas(arquivoValidas, carga);
+            carga.concluir();
+        } catch (Throwable e) {
+            carga.cancelar();
+            throw e;
+        }
+
+        long cadastrados = rejeitarCadastrados(conexao, rejeicoes);
+        long pessoas = executar(conexao, INSERE_PESSOAS);
+        long contatos = executar(conexao, INSERE_CONTATOS);
+        indexarImportadas(conexao);
+        return new Mescla(cadastrados, pessoas, contatos);
+    }
+
+    private void carregarValidas(Path arquivoValidas, CargaTemporaria carga) throws IOException, SQLException {
+        try (Reader validas = Files.newBufferedReader(arquivoValidas, StandardCharsets.UTF_8)) {
+            LeitorCsv leitor = new LeitorCsv(validas);
+            List<LinhaImportacao> bloco = new ArrayList<>(tamanhoBloco);
+            String[] registro;
+            while ((registro = leitor.proximo()) != null) {
+                bloco.add(new LinhaImportacao(Long.parseLong(registro[0]), registro[1], registro[2],
+                        LocalDate.parse(registro[3]), registro[4], registro[5], registro[6]));
+                if (bloco.size() == tamanhoBloco) {
+                    carga.carregar(bloco);
+                    bloco.clear();
+                }
+            }
+            if (!bloco.isEmpty()) {
+                carga.carregar(bloco);
+            }
+        }
+    }
+
+    private LinhaImportacao validar(long numero, String[] registro, int[] colunas, String cpf)
+            throws CampoInvalidoException {
+        String nome = texto(registro, colunas, NOME, TAMANHO_TEXTO);
+
+        if (cpf == null) {
+            throw new CampoInvalidoException(COLUNAS[CPF]);
+        }
+
+        LocalDate dataNascimento;
+        try {
+            dataNascimento = LocalDate.parse(campo(registro, colunas[DATA_NASCIMENTO]));
+        } catch (DateTimeParseException e) {
+            throw new CampoInvalidoException(COLUNAS[DATA_NASCIMENTO]);
+        }
+        if (ValidarDataFutura.dataFutura(java.sql.Date.valueOf(dataNascimento))) {
+            throw new CampoInvalidoException(COLUNAS[DATA_NASCIMENTO]);
+        }
+
+        String contatoNome = texto(registro, colunas, CONTATO_NOME, TAMANHO_TEXTO);
+        String contatoTelefone = texto(registro, colunas, CONTATO_TELEFONE, TAMANHO_TELEFONE);
+        String contatoEmail = texto(registro, colunas, CONTATO_EMAIL, TAMANHO_TEXTO);
+        if (!validator.validateValue(ContatoDTO.class, "email", contatoEmail).isEmpty()) {
+            throw new CampoInvalidoException(COLUNAS[CONTATO_EMAIL]);
+        }
+
+        return new LinhaImportacao(numero, nome, cpf, dataNascimento, contatoNome, contatoTelefone, contatoEmail);
+    }
+
+    private static String texto(String[] registro, int[] colunas, int coluna, int tamanhoMaximo)
+            throws CampoInvalidoException {
+        String valor = campo(registro, colunas[coluna]);
+        if (valor.isEmpty() || valor.length() > tamanhoMaximo) {
+            throw new CampoInvalidoException(COLUNAS[coluna]);
+        }
+        return valor;
+    }
+
+    private static String campo(String[] registro, int indice) {
+        return indice < registro.length ? registro[indice].strip() : "";
+    }
+
+    // Posição de cada coluna obrigatória no cabeçalho; as demais colunas, como id e versao, são ignoradas.
+    private static int[] colunas(String[] cabecalho) throws CampoInvalidoException {
+        if (cabecalho == null) {
+            throw new CampoInvalidoException("cabecalho");
+        }
+
+        int[] posicoes = new int[COLUNAS.length];
+        for (int coluna = 0; coluna < COLUNAS.length; coluna++) {
+            posicoes[coluna] = -1;
+            for (int i = 0; i < cabecalho.length; i++) {
+                if (COLUNAS[coluna].equalsIgnoreCase(cabecalho[i].strip())) {
+                    posicoes[coluna] = i;
+                }
+            }
+            if (posicoes[coluna] < 0) {
+                throw new CampoInvalidoException(COLUNAS[coluna]);
+            }
+        }
+        return posicoes;
+    }
+
+    private long rejeitarCadastrados(Connection conexao, Writer rejeicoes) throws IOException, SQLException {
+        long rejeitadas = 0;
+        try (PreparedStatement busca = conexao.prepareStatement(BUSCA_CADASTRADOS)) {
+            busca.setFetchSize(TAMANHO_LEITURA);
+            try (ResultSet resultado = busca.executeQuery()) {
+                while (resultado.next()) {
+                    String cpf = resultado.getString(2);
+                    rejeitar(rejeicoes, resultado.getLong(1), cpf, new CpfJaCadastradoException(cpf).getMessage());
+                    rejeitadas++;
+                }
+            }
+        }
+
+        if (rejeitadas > 0) {
+            executar(conexao, EXCLUI_CADASTRADOS);
+        }
+        return rejeitadas;
+    }
+
+    // O filtro de CPF só pode ganhar falsos positivos, então é atualizado antes do commit, enquanto as importadas são
+    // lidas; o índice de nomes em memória, só depois dele, para não devolver pessoas de uma importação desfeita. O
+    // índice do PostgreSQL lê a própria tabela e dispensa a lista.
+    private void indexarImportadas(Connection conexao) throws SQLException {
+        List<PessoaResumoDTO> importadas = indiceNomes instanceof IndiceNomesMemoria ? new ArrayList<>() : null;
+        try (PreparedStatement busca = conexao.prepareStatement(BUSCA_IMPORTADAS)) {
+            busca.setFetchSize(TAMANHO_LEITURA);
+            try (ResultSet resultado = busca.executeQuery()) {
+                while (resultado.next()) {
+                    String cpf = resultado.getString(3);
+                    filtroCPF.adicionar(cpf);
+                    if (importadas != null) {
+                        importadas.add(new PessoaResumoDTO(resultado.getLong(1), resultado.getString(2), cpf));
+                    }
+                }
+            }
+        }
+
+        if (importadas != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    importadas.forEach(indiceNomes::indexar);
+                }
+            });
+        }
+    }
+
+    private static long executar(Connection conexao, String sql) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            return statement.executeLargeUpdate(sql);
+        }
+    }
+
+    private static void copiar(Writer validas, LinhaImportacao linha) throws IOException {
+        validas.write(linha.linha() + "," + csv(linha.nome()) + "," + linha.cpf() + "," + linha.dataNascimento() + ","
+                + csv(linha.contatoNome()) + "," + csv(linha.contatoTelefone()) + "," + csv(linha.contatoEmail()));
+        validas.write('\n');
+    }
+
+    private static void rejeitar(Writer rejeicoes, long linha, String cpf, String motivo) throws IOException {
+        rejeicoes.write(linha + "," + csv(cpf) + "," + csv(motivo));
+        rejeicoes.write('\n');
+    }
+
+    private static String csv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+
+    private void removerRejeicoesAntigas() throws IOException {
+        Instant limite = Instant.now().minus(retencao);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                if (Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite)) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        }
+    }
+
+    private record Mescla(long cadastrados, long pessoas, long contatos) {
+    }
+
+    // Leva as exceções verificadas da mescla para fora do TransactionTemplate, que desfaz a transação ao recebê-la.
+    private static class FalhaMescla extends RuntimeException {
+
+        FalhaMescla(Exception causa) {
+            super(causa);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.lucas.cadastropessoas.importacao;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê registros CSV (RFC 4180): campos entre aspas podem conter vírgulas, quebras de linha e aspas duplicadas.
+ */
+class LeitorCsv {
+
+    private final Reader entrada;
+
+    private final char[] buffer = new char[65_536];
+
+    private final StringBuilder campo = new StringBuilder();
+
+    private int posicao;
+
+    private int limite;
+
+    private long linha = 1;
+
+    private long linhaRegistro;
+
+    LeitorCsv(Reader entrada) {
+        this.entrada = entrada;
+    }
+
+    // Próximo registro, ou null no fim do arquivo.
+    String[] proximo() throws IOException {
+        int caractere = ler();
+        if (caractere < 0) {
+            return null;
+        }
+
+        linhaRegistro = linha;
+        List<String> campos = new ArrayList<>();
+        campo.setLength(0);
+        boolean entreAspas = false;
+
+        while (caractere >= 0) {
+            if (entreAspas) {
+                if (caractere == '"') {
+                    caractere = ler();
+                    if (caractere != '"') {
+                        entreAspas = false;
+                        continue;
+                    }
+                } else if (caractere == '\n') {
+                    linha++;
+                }
+                campo.append((char) caractere);
+            } else if (caractere == '"' && campo.length() == 0) {
+                entreAspas = true;
+            } else if (caractere == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (caractere == '\n') {
+                linha++;
+                break;
+            } else if (caractere != '\r') {
+                campo.append((char) caractere);
+            }
+            caractere = ler();
+        }
+
+        campos.add(campo.toString());
+        return campos.toArray(String[]::new);
+    }
+
+    // Linha do arquivo em que começa o último registro lido.
+    long linhaRegistro() {
+        return linhaRegistro;
+    }
+
+    private int ler() throws IOException {
+        if (posicao == limite) {
+            limite = entrada.read(buffer);
+            posicao = 0;
+            if (limite <= 0) {
+                limite = 0;
+                return -1;
+            }
+        }
+        return buffer[posicao++];
+    }
+}
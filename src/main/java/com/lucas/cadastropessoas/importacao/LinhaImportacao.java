@@ -0,0 +1,17 @@
+package com.lucas.cadastropessoas.importacao;
+
+import java.time.LocalDate;
+
+/**
+ * Linha do arquivo de importação já validada, com o CPF normalizado. {@code linha} é a linha do registro no arquivo,
+ * usada no arquivo de rejeições.
+ */
+public record LinhaImportacao(
+        long linha,
+        String nome,
+        String cpf,
+        LocalDate dataNascimento,
+        String contatoNome,
+        String contatoTelefone,
+        String contatoEmail) {
+}
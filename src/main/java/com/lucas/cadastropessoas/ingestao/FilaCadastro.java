@@ -0,0 +1,209 @@
+package com.lucas.cadastropessoas.ingestao;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO.Situacao;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
+import com.lucas.cadastropessoas.exception.FilaCheiaException;
+import com.lucas.cadastropessoas.exception.FilaEncerradaException;
+import com.lucas.cadastropessoas.exception.ProtocoloNaoEncontradoException;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cadastro assíncrono: a pessoa é validada na requisição e vai para uma fila limitada, de onde uma única thread grava
+ * lotes de até {@code cadastro.lote.tamanho} pessoas por transação. A situação de cada protocolo fica disponível por
+ * {@code cadastro.ingestao.retencao}. Ao encerrar, a fila é esvaziada antes de o banco ser fechado; o que não for
+ * gravado em {@code cadastro.ingestao.tempo-encerramento} fica como {@code FALHOU}.
+ */
+@Component
+@Profile("!reativo")
+@ConditionalOnProperty(name = "cadastro.ingestao.habilitada", havingValue = "true")
+public class FilaCadastro {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilaCadastro.class);
+
+    private static final int ESPERA_MS = 200;
+
+    private static final String ENCERRADO = "Cadastro não gravado: a aplicação foi encerrada.";
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cadastro.ingestao.capacidade:10000}")
+    private int capacidade;
+
+    @Value("${cadastro.lote.tamanho:500}")
+    private int tamanhoLote;
+
+    @Value("${cadastro.ingestao.retencao:1h}")
+    private Duration retencao;
+
+    @Value("${cadastro.ingestao.tempo-encerramento:30s}")
+    private Duration tempoEncerramento;
+
+    private BlockingQueue<Pendente> fila;
+
+    private Cache<String, SituacaoCadastroDTO> situacoes;
+
+    private volatile boolean ativo;
+
+    // Enfileirar usa a leitura e encerrar a escrita: depois de encerrar, nenhum cadastro entra na fila.
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private Thread escritor;
+
+    @PostConstruct
+    void iniciar() {
+        fila = new ArrayBlockingQueue<>(capacidade);
+        situacoes = Caffeine.newBuilder().expireAfterWrite(retencao).build();
+        meterRegistry.gauge("cadastro.ingestao.fila", fila, BlockingQueue::size);
+
+        ativo = true;
+        escritor = new Thread(this::gravarPendentes, "ingestao-cadastro");
+        escritor.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        trava.writeLock().lock();
+        try {
+            ativo = false;
+        } finally {
+            trava.writeLock().unlock();
+        }
+
+        escritor.join(tempoEncerramento.toMillis());
+        if (escritor.isAlive()) {
+            escritor.interrupt();
+        }
+
+        List<Pendente> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        if (!restantes.isEmpty()) {
+            LOGGER.warn("Encerrando com {} cadastros não gravados na fila.", restantes.size());
+            restantes.forEach(pendente -> atualizar(pendente, Situacao.FALHOU, null, ENCERRADO));
+        }
+    }
+
+    public SituacaoCadastroDTO enfileirar(PessoaDTO pessoaDTO)
+            throws CampoInvalidoException, CpfJaCadastradoException, FilaCheiaException, FilaEncerradaException {
+        Pessoa pessoa = pessoaService.prepararCadastro(pessoaDTO);
+
+        String protocolo = UUID.randomUUID().toString();
+        SituacaoCadastroDTO situacao = new SituacaoCadastroDTO(protocolo, Situacao.PENDENTE, null, null);
+        situacoes.put(protocolo, situacao);
+
+        trava.readLock().lock();
+        try {
+            if (!ativo) {
+                situacoes.invalidate(protocolo);
+                throw new FilaEncerradaException();
+            }
+            if (!fila.offer(new Pendente(protocolo, pessoa))) {
+                situacoes.invalidate(protocolo);
+                throw new FilaCheiaException();
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        return situacao;
+    }
+
+    public SituacaoCadastroDTO situacao(String protocolo) throws ProtocoloNaoEncontradoException {
+        SituacaoCadastroDTO situacao = situacoes.getIfPresent(protocolo);
+        if (situacao == null) {
+            throw new ProtocoloNaoEncontradoException(protocolo);
+        }
+        return situacao;
+    }
+
+    private void gravarPendentes() {
+        List<Pendente> lote = new ArrayList<>(tamanhoLote);
+
+        while (ativo || !fila.isEmpty()) {
+            try {
+                Pendente primeiro = fila.poll(ESPERA_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<Pendente> lote) {
+        try {
+            List<Pessoa> salvas = pessoaService.gravar(lote.stream().map(Pendente::pessoa).toList());
+            for (int i = 0; i < lote.size(); i++) {
+                atualizar(lote.get(i), Situacao.GRAVADO, salvas.get(i).getId(), null);
+            }
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                atualizar(lote.get(0), Situacao.FALHOU, null, mensagem(lote.get(0), e));
+                return;
+            }
+
+            // Um cadastro com erro desfaz a transação do lote inteiro; regravando um a um, só ele falha.
+            for (Pendente pendente : lote) {
+                PessoaService.descartarIdentificadores(pendente.pessoa());
+                gravar(List.of(pendente));
+            }
+        }
+    }
+
+    private void atualizar(Pendente pendente, Situacao situacao, Long id, String mensagem) {
+        situacoes.put(pendente.protocolo(), new SituacaoCadastroDTO(pendente.protocolo(), situacao, id, mensagem));
+    }
+
+    private static String mensagem(Pendente pendente, RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return new CpfJaCadastradoException(pendente.pessoa().getCpf()).getMessage();
+        }
+
+        LOGGER.warn("Falha ao gravar o cadastro {}.", pendente.protocolo(), e);
+        return NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+    }
+
+    private record Pendente(String protocolo, Pessoa pessoa) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.lucas.cadastropessoas.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.entity.Contato;
+import com.lucas.cadastropessoas.entity.Pessoa;
+
+@Component
+public class PessoaMapper {
+
+    public Pessoa toModel(PessoaDTO pessoaDTO) {
+        if (pessoaDTO == null) {
+            return null;
+        }
+
+        Pessoa pessoa = new Pessoa();
+        pessoa.setId(pessoaDTO.getId());
+        pessoa.setNome(pessoaDTO.getNome());
+        pessoa.setCpf(pessoaDTO.getCpf());
+        pessoa.setDataNascimento(pessoaDTO.getDataNascimento());
+        pessoa.setContatos(toContatosModel(pessoaDTO.getContatos()));
+        if (pessoa.getContatos() != null) {
+            pessoa.getContatos().forEach(contato -> contato.setPessoa(pessoa));
+        }
+        pessoa.setVersao(pessoaDTO.getVersao());
+        return pessoa;
+    }
+
+    public PessoaDTO toDto(Pessoa pessoa) {
+        if (pessoa == null) {
+            return null;
+        }
+
+        return new PessoaDTO(
+                pessoa.getId(),
+                pessoa.getNome(),
+                pessoa.getCpf(),
+                pessoa.getDataNascimento(),
+                toContatosDto(pessoa.getContatos()),
+                pessoa.getVersao());
+    }
+
+    public Contato toModel(ContatoDTO contatoDTO) {
+        if (contatoDTO == null) {
+            return null;
+        }
+
+        return new Contato(contatoDTO.getId(), contatoDTO.getNome(), contatoDTO.getTelefone(), contatoDTO.getEmail(),
+                null);
+    }
+
+    public ContatoDTO toDto(Contato contato) {
+        if (contato == null) {
+            return null;
+        }
+
+        return new ContatoDTO(contato.getId(), contato.getNome(), contato.getTelefone(), contato.getEmail());
+    }
+
+    private List<Contato> toContatosModel(List<ContatoDTO> contatosDTO) {
+        if (contatosDTO == null) {
+            return null;
+        }
+
+        List<Contato> contatos = new ArrayList<>(contatosDTO.size());
+        for (int i = 0; i < contatosDTO.size(); i++) {
+            contatos.add(toModel(contatosDTO.get(i)));
+        }
+        return contatos;
+    }
+
+    private List<ContatoDTO> toContatosDto(List<Contato> contatos) {
+        if (contatos == null) {
+            return null;
+        }
+
+        List<ContatoDTO> contatosDTO = new ArrayList<>(contatos.size());
+        for (int i = 0; i < contatos.size(); i++) {
+            contatosDTO.add(toDto(contatos.get(i)));
+        }
+        return contatosDTO;
+    }
+}
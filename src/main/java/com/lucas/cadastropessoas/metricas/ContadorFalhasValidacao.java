@@ -0,0 +1,60 @@
+package com.lucas.cadastropessoas.metricas;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Conta as falhas de validação por campo, tanto as {@link CampoInvalidoException} quanto as da Bean Validation. Observa
+ * as exceções no MVC e no WebFlux sem tratá-las.
+ */
+@Component
+public class ContadorFalhasValidacao implements HandlerExceptionResolver, WebFilter, Ordered {
+
+    public static final String NOME = "cadastro.validacao.falhas";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void registrar(Throwable erro) {
+        if (erro instanceof CampoInvalidoException campoInvalido) {
+            incrementar(campoInvalido.getCampo());
+        } else if (erro instanceof BindingResult resultado) {
+            resultado.getFieldErrors().forEach(erroCampo -> incrementar(erroCampo.getField()));
+        }
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        registrar(ex);
+        return null;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange).doOnError(this::registrar);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void incrementar(String campo) {
+        meterRegistry.counter(NOME, "campo", campo.replaceAll("\\[\\d+]", "[]")).increment();
+    }
+}
@@ -0,0 +1,47 @@
+package com.lucas.cadastropessoas.metricas;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mede cada chamada aos repositórios Spring Data no timer {@value #NOME}, com o repositório, o método e o resultado
+ * como tags.
+ */
+public class MetricasRepositorio implements BeanPostProcessor, RepositoryMethodInvocationListener {
+
+    public static final String NOME = "cadastro.repositorio";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricasRepositorio(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositorio) {
+            repositorio.addRepositoryFactoryCustomizer(fabrica -> fabrica.addInvocationListener(this));
+        }
+        return bean;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocacao) {
+        Throwable erro = invocacao.getResult().getError();
+
+        Timer.builder(NOME)
+                .tag("repositorio", invocacao.getRepositoryInterface().getSimpleName())
+                .tag("metodo", invocacao.getMethod().getName())
+                .tag("estado", invocacao.getResult().getState().name())
+                .tag("excecao", erro == null ? "none" : erro.getClass().getSimpleName())
+                .register(meterRegistry.getObject())
+                .record(invocacao.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.lucas.cadastropessoas.metricas;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Registra, em formato chave=valor, uma amostra das consultas SQL que passaram do limite configurado. Substitui o
+ * {@code spring.jpa.show-sql}, que imprimia todas as consultas.
+ */
+public class RegistroConsultasLentas implements QueryExecutionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cadastro.sql.lento");
+
+    private final long limiteMs;
+
+    private final double amostragem;
+
+    public RegistroConsultasLentas(long limiteMs, double amostragem) {
+        this.limiteMs = limiteMs;
+        this.amostragem = amostragem;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execucao, List<QueryInfo> consultas) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execucao, List<QueryInfo> consultas) {
+        if (execucao.getElapsedTime() < limiteMs || !amostrar()) {
+            return;
+        }
+
+        String sql = consultas.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "))
+                .replace("\"", "\\\"")
+                .replaceAll("\\s+", " ");
+
+        LOGGER.warn("duracao_ms={} sucesso={} tipo={} lote={} tamanho_lote={} conexao={} sql=\"{}\"",
+                execucao.getElapsedTime(),
+                execucao.isSuccess(),
+                execucao.getStatementType(),
+                execucao.isBatch(),
+                execucao.getBatchSize(),
+                execucao.getConnectionId(),
+                sql);
+    }
+
+    private boolean amostrar() {
+        return amostragem >= 1.0 || ThreadLocalRandom.current().nextDouble() < amostragem;
+    }
+}
@@ -0,0 +1,114 @@
+package com.lucas.cadastropessoas.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Envia as transações somente leitura para as réplicas, em rodízio, e as demais para o primário. Uma réplica que
+ * falha ao entregar uma conexão fica fora do rodízio por {@code intervaloNovaTentativaMs}; sem réplicas disponíveis, a
+ * leitura vai para o primário. Leituras que precisam do dado mais recente usam {@link #leituraNoPrimario}.
+ */
+public class RoteadorReplicas extends AbstractDataSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoteadorReplicas.class);
+
+    static final String LEITURA_NO_PRIMARIO = RoteadorReplicas.class.getName() + ".primario";
+
+    private final DataSource primario;
+
+    private final List<Replica> replicas;
+
+    private final long intervaloNovaTentativaMs;
+
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    public RoteadorReplicas(DataSource primario, List<? extends DataSource> replicas, long intervaloNovaTentativaMs) {
+        this.primario = primario;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.intervaloNovaTentativaMs = intervaloNovaTentativaMs;
+    }
+
+    // Somente leitura, mas marcada pelo nome para não ir às réplicas.
+    public static TransactionTemplate leituraNoPrimario(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(LEITURA_NO_PRIMARIO);
+        return transactionTemplate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conectar(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conectar(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primario.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primario.isWrapperFor(iface);
+    }
+
+    private Connection conectar(Conexao conexao) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || LEITURA_NO_PRIMARIO.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return conexao.abrir(primario);
+        }
+
+        int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int indice = (inicio + i) % replicas.size();
+            Replica replica = replicas.get(indice);
+            if (!replica.disponivel()) {
+                continue;
+            }
+
+            try {
+                return conexao.abrir(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                replica.indisponivelAte = System.currentTimeMillis() + intervaloNovaTentativaMs;
+                LOGGER.warn("Réplica {} indisponível por {} ms: {}", indice, intervaloNovaTentativaMs, e.getMessage());
+            }
+        }
+
+        return conexao.abrir(primario);
+    }
+
+    private interface Conexao {
+
+        Connection abrir(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Replica {
+
+        private final DataSource dataSource;
+
+        private volatile long indisponivelAte;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        boolean disponivel() {
+            return System.currentTimeMillis() >= indisponivelAte;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.lucas.cadastropessoas.repository;
+
+import java.util.Collection;
+
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+
+public interface AtualizacaoParcialRepository {
+
+    int atualizarParcial(Long id, PessoaParcialDTO pessoaParcialDTO);
+
+    int atualizarParcial(Collection<Long> ids, PessoaParcialDTO pessoaParcialDTO);
+}
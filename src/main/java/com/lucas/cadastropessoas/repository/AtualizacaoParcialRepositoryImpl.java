@@ -0,0 +1,71 @@
+package com.lucas.cadastropessoas.repository;
+
+import java.util.Collection;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.entity.Pessoa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Atualiza apenas as colunas informadas e incrementa a versão em um único UPDATE, sem carregar a entidade. Com a
+ * versão informada, o UPDATE só afeta a linha se ela não tiver sido alterada desde então. A versão com vários IDs
+ * aplica as mesmas colunas a todos eles no mesmo UPDATE.
+ */
+public class AtualizacaoParcialRepositoryImpl implements AtualizacaoParcialRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int atualizarParcial(Long id, PessoaParcialDTO pessoaParcialDTO) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Pessoa> update = criteriaBuilder.createCriteriaUpdate(Pessoa.class);
+        Root<Pessoa> pessoa = alterar(update, pessoaParcialDTO);
+
+        Predicate filtro = criteriaBuilder.equal(pessoa.get("id"), id);
+        if (pessoaParcialDTO.getVersao() != null) {
+            filtro = criteriaBuilder.and(filtro,
+                    criteriaBuilder.equal(pessoa.get("versao"), pessoaParcialDTO.getVersao()));
+        }
+        update.where(filtro);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int atualizarParcial(Collection<Long> ids, PessoaParcialDTO pessoaParcialDTO) {
+        CriteriaUpdate<Pessoa> update = entityManager.getCriteriaBuilder().createCriteriaUpdate(Pessoa.class);
+        Root<Pessoa> pessoa = alterar(update, pessoaParcialDTO);
+        update.where(pessoa.get("id").in(ids));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private Root<Pessoa> alterar(CriteriaUpdate<Pessoa> update, PessoaParcialDTO pessoaParcialDTO) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        Root<Pessoa> pessoa = update.from(Pessoa.class);
+
+        if (pessoaParcialDTO.getNome() != null) {
+            update.set(pessoa.<String>get("nome"), pessoaParcialDTO.getNome());
+        }
+        if (pessoaParcialDTO.getCpf() != null) {
+            update.set(pessoa.<String>get("cpf"), pessoaParcialDTO.getCpf());
+        }
+        if (pessoaParcialDTO.getDataNascimento() != null) {
+            update.set(pessoa.get("dataNascimento"), pessoaParcialDTO.getDataNascimento());
+        }
+        update.set(pessoa.<Long>get("versao"), criteriaBuilder.sum(pessoa.<Long>get("versao"), 1L));
+
+        return pessoa;
+    }
+}
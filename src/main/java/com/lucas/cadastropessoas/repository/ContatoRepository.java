@@ -0,0 +1,27 @@
+package com.lucas.cadastropessoas.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.lucas.cadastropessoas.entity.Contato;
+
+@Repository
+public interface ContatoRepository extends JpaRepository<Contato, Long> {
+
+    @Modifying
+    @Query("UPDATE Contato c SET c.nome = :nome, c.telefone = :telefone, c.email = :email "
+            + "WHERE c.id = :id AND c.pessoa.id = :pessoaId")
+    int atualizar(@Param("pessoaId") Long pessoaId, @Param("id") Long id, @Param("nome") String nome,
+            @Param("telefone") String telefone, @Param("email") String email);
+
+    // Não remove o último contato, que é obrigatório.
+    @Modifying
+    @Query("DELETE FROM Contato c WHERE c.id = :id AND c.pessoa.id = :pessoaId "
+            + "AND (SELECT COUNT(o) FROM Contato o WHERE o.pessoa.id = :pessoaId) > 1")
+    int remover(@Param("pessoaId") Long pessoaId, @Param("id") Long id);
+
+    boolean existsByIdAndPessoaId(Long id, Long pessoaId);
+}
@@ -0,0 +1,17 @@
+package com.lucas.cadastropessoas.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+
+public interface OperacoesMassaRepository {
+
+    int excluir(Collection<Long> ids);
+
+    int excluirCadastradasEntre(Date de, Date ate, Consumer<List<Long>> excluidas);
+
+    int atualizarCadastradasEntre(Date de, Date ate, PessoaParcialDTO alteracoes, Consumer<List<Long>> atualizadas);
+}
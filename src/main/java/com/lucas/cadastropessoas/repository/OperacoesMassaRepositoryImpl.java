@@ -0,0 +1,108 @@
+package com.lucas.cadastropessoas.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Exclusão e atualização em massa sem carregar as pessoas: por lote de IDs, um único DELETE por lote; por período de
+ * cadastro, um único DELETE ou UPDATE que devolve os IDs afetados, repassados em blocos à medida que são lidos. Os
+ * contatos são removidos pelo {@code ON DELETE CASCADE} da chave estrangeira.
+ */
+public class OperacoesMassaRepositoryImpl implements OperacoesMassaRepository {
+
+    private static final int IDS_POR_BLOCO = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int excluir(Collection<Long> ids) {
+        return entityManager.createQuery("DELETE FROM Pessoa p WHERE p.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int excluirCadastradasEntre(Date de, Date ate, Consumer<List<Long>> excluidas) {
+        return idsAfetados("DELETE FROM pessoa", "OLD", new ArrayList<>(), de, ate, excluidas);
+    }
+
+    @Override
+    @Transactional
+    public int atualizarCadastradasEntre(Date de, Date ate, PessoaParcialDTO alteracoes,
+            Consumer<List<Long>> atualizadas) {
+        StringBuilder comando = new StringBuilder("UPDATE pessoa SET versao = versao + 1");
+        List<Object> parametros = new ArrayList<>();
+        if (alteracoes.getNome() != null) {
+            comando.append(", nome = ?");
+            parametros.add(alteracoes.getNome());
+        }
+        if (alteracoes.getDataNascimento() != null) {
+            comando.append(", data_nascimento = ?");
+            parametros.add(new java.sql.Date(alteracoes.getDataNascimento().getTime()));
+        }
+
+        return idsAfetados(comando.toString(), "FINAL", parametros, de, ate, atualizadas);
+    }
+
+    // O H2 não aceita RETURNING; as linhas afetadas são lidas da tabela delta (OLD TABLE ou FINAL TABLE) do comando.
+    private int idsAfetados(String comando, String tabelaDelta, List<Object> parametros, Date de, Date ate,
+            Consumer<List<Long>> afetadas) {
+        StringBuilder sql = new StringBuilder(comando).append(" WHERE 1 = 1");
+        if (de != null) {
+            sql.append(" AND data_cadastro >= ?");
+            parametros.add(new Timestamp(de.getTime()));
+        }
+        if (ate != null) {
+            sql.append(" AND data_cadastro < ?");
+            parametros.add(new Timestamp(ate.getTime()));
+        }
+
+        boolean h2 = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect;
+        Query consulta = entityManager.createNativeQuery(h2
+                ? "SELECT id FROM " + tabelaDelta + " TABLE (" + sql + ")"
+                : sql + " RETURNING id");
+        for (int i = 0; i < parametros.size(); i++) {
+            consulta.setParameter(i + 1, parametros.get(i));
+        }
+
+        int total = 0;
+        List<Long> bloco = new ArrayList<>(IDS_POR_BLOCO);
+        try (Stream<?> ids = consulta.setHint("org.hibernate.fetchSize", IDS_POR_BLOCO).getResultStream()) {
+            Iterator<?> iterador = ids.iterator();
+            while (iterador.hasNext()) {
+                bloco.add(((Number) iterador.next()).longValue());
+                if (bloco.size() == IDS_POR_BLOCO) {
+                    total += bloco.size();
+                    afetadas.accept(bloco);
+                    bloco = new ArrayList<>(IDS_POR_BLOCO);
+                }
+            }
+        }
+        if (!bloco.isEmpty()) {
+            total += bloco.size();
+            afetadas.accept(bloco);
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,192 @@
+package com.lucas.cadastropessoas.repository;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.lucas.cadastropessoas.entity.Contato;
+import com.lucas.cadastropessoas.entity.Pessoa;
+
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reativo")
+public class PessoaReativaRepository {
+
+    private static final int INCREMENTO_SEQUENCIA = 50;
+
+    private static final String COLUNAS_PESSOA = "p.id, p.nome, p.cpf, p.data_nascimento, p.versao";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private SequenciaReativa sequenciaPessoa;
+
+    private SequenciaReativa sequenciaContato;
+
+    @PostConstruct
+    void iniciar() {
+        sequenciaPessoa = new SequenciaReativa(databaseClient, "pessoa_seq", INCREMENTO_SEQUENCIA);
+        sequenciaContato = new SequenciaReativa(databaseClient, "contato_seq", INCREMENTO_SEQUENCIA);
+    }
+
+    public Mono<Pessoa> inserir(Pessoa pessoa) {
+        return sequenciaPessoa.proximo()
+                .doOnNext(id -> {
+                    pessoa.setId(id);
+                    pessoa.setVersao(0L);
+                })
+                .flatMap(id -> databaseClient.sql("INSERT INTO pessoa (id, nome, cpf, data_nascimento, versao) "
+                        + "VALUES (:id, :nome, :cpf, :dataNascimento, 0)")
+                        .bind("id", id)
+                        .bind("nome", pessoa.getNome())
+                        .bind("cpf", pessoa.getCpf())
+                        .bind("dataNascimento", paraLocalDate(pessoa.getDataNascimento()))
+                        .then())
+                .then(Flux.fromIterable(pessoa.getContatos())
+                        .concatMap(contato -> sequenciaContato.proximo().doOnNext(contato::setId))
+                        .then(Mono.defer(() -> inserirContatos(pessoa))))
+                .thenReturn(pessoa);
+    }
+
+    public Mono<Pessoa> buscarPorId(Long id) {
+        return databaseClient.sql("SELECT " + COLUNAS_PESSOA + " FROM pessoa p WHERE p.id = :id")
+                .bind("id", id)
+                .map(PessoaReativaRepository::toPessoa)
+                .all()
+                .collectList()
+                .flatMapMany(this::carregarContatos)
+                .next();
+    }
+
+    public Flux<Pessoa> buscarPagina(long inicio, int registros) {
+        return databaseClient.sql("SELECT " + COLUNAS_PESSOA + " FROM pessoa p ORDER BY p.id LIMIT :registros OFFSET :inicio")
+                .bind("registros", registros)
+                .bind("inicio", inicio)
+                .map(PessoaReativaRepository::toPessoa)
+                .all()
+                .collectList()
+                .flatMapMany(this::carregarContatos);
+    }
+
+    public Mono<Long> contar() {
+        return databaseClient.sql("SELECT count(*) FROM pessoa")
+                .map(linha -> linha.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Boolean> existePorCpf(String cpf, Long idIgnorado) {
+        DatabaseClient.GenericExecuteSpec consulta = idIgnorado == null
+                ? databaseClient.sql("SELECT 1 FROM pessoa WHERE cpf = :cpf").bind("cpf", cpf)
+                : databaseClient.sql("SELECT 1 FROM pessoa WHERE cpf = :cpf AND id <> :id")
+                        .bind("cpf", cpf)
+                        .bind("id", idIgnorado);
+
+        return consulta.map(linha -> Boolean.TRUE).all().hasElements();
+    }
+
+    public Mono<Long> atualizar(Pessoa pessoa) {
+        return databaseClient.sql(
+                "UPDATE pessoa SET nome = :nome, cpf = :cpf, data_nascimento = :dataNascimento, versao = versao + 1 "
+                        + "WHERE id = :id")
+                .bind("nome", pessoa.getNome())
+                .bind("cpf", pessoa.getCpf())
+                .bind("dataNascimento", paraLocalDate(pessoa.getDataNascimento()))
+                .bind("id", pessoa.getId())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deletar(Long id) {
+        return databaseClient.sql("DELETE FROM contato WHERE pessoa_id = :id")
+                .bind("id", id)
+                .then()
+                .then(databaseClient.sql("DELETE FROM pessoa WHERE id = :id")
+                        .bind("id", id)
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    private Mono<Void> inserirContatos(Pessoa pessoa) {
+        List<Contato> contatos = pessoa.getContatos();
+        if (contatos.isEmpty()) {
+            return Mono.empty();
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO contato (id, nome, telefone, email, pessoa_id) VALUES ");
+        for (int i = 0; i < contatos.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:id").append(i)
+                    .append(", :nome").append(i)
+                    .append(", :telefone").append(i)
+                    .append(", :email").append(i)
+                    .append(", :pessoa)");
+        }
+
+        DatabaseClient.GenericExecuteSpec insercao = databaseClient.sql(sql.toString()).bind("pessoa", pessoa.getId());
+        for (int i = 0; i < contatos.size(); i++) {
+            Contato contato = contatos.get(i);
+            insercao = insercao.bind("id" + i, contato.getId())
+                    .bind("nome" + i, contato.getNome())
+                    .bind("telefone" + i, contato.getTelefone())
+                    .bind("email" + i, contato.getEmail());
+        }
+
+        return insercao.then();
+    }
+
+    private Flux<Pessoa> carregarContatos(List<Pessoa> pessoas) {
+        if (pessoas.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Map<Long, Pessoa> porId = new LinkedHashMap<>();
+        pessoas.forEach(pessoa -> porId.put(pessoa.getId(), pessoa));
+
+        return databaseClient.sql(
+                "SELECT c.id, c.nome, c.telefone, c.email, c.pessoa_id FROM contato c WHERE c.pessoa_id IN (:ids) ORDER BY c.id")
+                .bind("ids", porId.keySet())
+                .map(linha -> {
+                    Pessoa pessoa = porId.get(linha.get("pessoa_id", Long.class));
+                    Contato contato = new Contato(
+                            linha.get("id", Long.class),
+                            linha.get("nome", String.class),
+                            linha.get("telefone", String.class),
+                            linha.get("email", String.class),
+                            pessoa);
+                    pessoa.getContatos().add(contato);
+                    return contato;
+                })
+                .all()
+                .thenMany(Flux.fromIterable(porId.values()));
+    }
+
+    private static Pessoa toPessoa(Readable linha) {
+        return new Pessoa(
+                linha.get("id", Long.class),
+                linha.get("nome", String.class),
+                linha.get("cpf", String.class),
+                java.sql.Date.valueOf(linha.get("data_nascimento", LocalDate.class)),
+                new ArrayList<>(),
+                linha.get("versao", Long.class),
+                null);
+    }
+
+    private static LocalDate paraLocalDate(Date data) {
+        return data instanceof java.sql.Date dataSql
+                ? dataSql.toLocalDate()
+                : LocalDate.ofInstant(data.toInstant(), ZoneId.systemDefault());
+    }
+}
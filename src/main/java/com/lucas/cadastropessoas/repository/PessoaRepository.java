@@ -1,16 +1,64 @@
 package com.lucas.cadastropessoas.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
 import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.exportacao.LinhaExportacao;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface PessoaRepository extends JpaRepository<Pessoa, Long> {
+public interface PessoaRepository extends JpaRepository<Pessoa, Long>, AtualizacaoParcialRepository,
+        OperacoesMassaRepository {
+
+    @Override
+    @EntityGraph(attributePaths = "contatos")
+    Optional<Pessoa> findById(Long id);
+
+    @EntityGraph(attributePaths = "contatos")
+    Optional<Pessoa> findByCpf(String cpf);
+
+    @EntityGraph(attributePaths = "contatos")
+    List<Pessoa> findByIdIn(Collection<Long> ids);
+
+    boolean existsByCpf(String cpf);
+
+    boolean existsByCpfAndIdNot(String cpf, Long id);
+
+    @Query("SELECT p.cpf FROM Pessoa p")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    Stream<String> buscaCpfs();
+
+    @Query("SELECT new com.lucas.cadastropessoas.dto.PessoaResumoDTO(p.id, p.nome, p.cpf) FROM Pessoa p")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    Stream<PessoaResumoDTO> buscaResumos();
+
+    @Query("SELECT new com.lucas.cadastropessoas.exportacao.LinhaExportacao(p.id, p.nome, p.cpf, p.dataNascimento, "
+            + "p.versao, c.id, c.nome, c.telefone, c.email) "
+            + "FROM Pessoa p LEFT JOIN p.contatos c WHERE p.id > :apos ORDER BY p.id, c.id")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    Stream<LinhaExportacao> exportar(@Param("apos") long apos);
 
     @Query("FROM Pessoa")
     Page<Pessoa> buscaPaginada(Pageable paginacao);
+
+    @Query(value = "SELECT new com.lucas.cadastropessoas.dto.PessoaResumoDTO(p.id, p.nome, p.cpf) FROM Pessoa p",
+            countQuery = "SELECT COUNT(p) FROM Pessoa p")
+    Page<PessoaResumoDTO> buscaResumosPaginada(Pageable paginacao);
+
+    @Query("FROM Pessoa p WHERE p.id > :apos ORDER BY p.id")
+    List<Pessoa> buscaAposId(@Param("apos") Long apos, Pageable limite);
 }
@@ -0,0 +1,58 @@
+package com.lucas.cadastropessoas.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reserva ids em blocos do mesmo jeito que o otimizador "pooled" do Hibernate, para que os ids gerados aqui não colidam
+ * com os gerados pelo JPA sobre a mesma sequência.
+ */
+class SequenciaReativa {
+
+    private static final long VALOR_INICIAL = 1;
+
+    private final DatabaseClient databaseClient;
+
+    private final String consulta;
+
+    private final int incremento;
+
+    private long proximo;
+
+    private long limite = -1;
+
+    SequenciaReativa(DatabaseClient databaseClient, String sequencia, int incremento) {
+        this.databaseClient = databaseClient;
+        this.consulta = "SELECT nextval('" + sequencia + "')";
+        this.incremento = incremento;
+    }
+
+    Mono<Long> proximo() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (proximo <= limite) {
+                    return Mono.just(proximo++);
+                }
+            }
+
+            return nextval().flatMap(valor -> valor == VALOR_INICIAL
+                    ? nextval().map(limiteSuperior -> reservar(VALOR_INICIAL, limiteSuperior))
+                    : Mono.just(reservar(valor - incremento + 1, valor)));
+        });
+    }
+
+    private synchronized long reservar(long inicio, long limiteSuperior) {
+        if (proximo > limite) {
+            proximo = inicio + 1;
+            limite = limiteSuperior;
+        }
+        return inicio;
+    }
+
+    private Mono<Long> nextval() {
+        return databaseClient.sql(consulta)
+                .map(linha -> linha.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,32 @@
+package com.lucas.cadastropessoas.service;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+
+public class CursorPaginacao {
+
+    private static final String CAMPO = "apos";
+
+    public static String codificar(Long id) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static long decodificar(String cursor) throws CampoInvalidoException {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new CampoInvalidoException(CAMPO);
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new CampoInvalidoException(CAMPO);
+        }
+    }
+}
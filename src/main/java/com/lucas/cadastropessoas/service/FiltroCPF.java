@@ -0,0 +1,84 @@
+package com.lucas.cadastropessoas.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class FiltroCPF {
+
+    @Value("${cadastro.filtro-cpf.capacidade:1000000}")
+    private long capacidade;
+
+    @Value("${cadastro.filtro-cpf.taxa-falsos-positivos:0.01}")
+    private double taxaFalsosPositivos;
+
+    private AtomicLongArray bits;
+
+    private long tamanho;
+
+    private int funcoes;
+
+    private volatile boolean carregado;
+
+    @PostConstruct
+    void iniciar() {
+        double log2 = Math.log(2);
+        tamanho = Math.max(Long.SIZE, (long) Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (log2 * log2)));
+        funcoes = Math.max(1, (int) Math.round((double) tamanho / capacidade * log2));
+        bits = new AtomicLongArray((int) ((tamanho + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    public void carregar(Stream<String> cpfs) {
+        cpfs.forEach(this::adicionar);
+        carregado = true;
+    }
+
+    public void adicionar(String cpf) {
+        long numero = Long.parseLong(cpf);
+        long hash1 = misturar(numero);
+        long hash2 = misturar(hash1) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, tamanho);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+
+            long atual = bits.get(indice);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(indice, atual, atual | mascara)) {
+                atual = bits.get(indice);
+            }
+        }
+    }
+
+    public boolean talvezContenha(String cpf) {
+        if (!carregado) {
+            return true;
+        }
+
+        long numero = Long.parseLong(cpf);
+        long hash1 = misturar(numero);
+        long hash2 = misturar(hash1) | 1;
+
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, tamanho);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long misturar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xff51afd7ed558ccdL;
+        valor ^= valor >>> 33;
+        valor *= 0xc4ceb9fe1a85ec53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+}
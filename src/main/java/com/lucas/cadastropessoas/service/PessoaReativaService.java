@@ -0,0 +1,127 @@
+package com.lucas.cadastropessoas.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.lucas.cadastropessoas.busca.IndiceNomes;
+import com.lucas.cadastropessoas.cache.CachePessoas;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
+import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.mapper.PessoaMapper;
+import com.lucas.cadastropessoas.repository.PessoaReativaRepository;
+import com.lucas.cadastropessoas.validator.ValidarPessoa;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@Profile("reativo")
+public class PessoaReativaService {
+
+    @Autowired
+    private PessoaReativaRepository pessoaReativaRepository;
+
+    @Autowired
+    private PessoaMapper pessoaMapper;
+
+    @Autowired
+    private FiltroCPF filtroCPF;
+
+    @Autowired
+    private CachePessoas cachePessoas;
+
+    @Autowired
+    private IndiceNomes indiceNomes;
+
+    @Autowired
+    private TransactionalOperator transacaoReativa;
+
+    public Mono<PessoaDTO> cadastrar(PessoaDTO pessoaDTO) {
+        return Mono.fromCallable(() -> {
+            ValidarPessoa.validar(pessoaDTO);
+            return pessoaMapper.toModel(pessoaDTO);
+        })
+                .flatMap(pessoa -> verificarCpfDisponivel(pessoa.getCpf(), null).thenReturn(pessoa))
+                .flatMap(pessoa -> transacaoReativa.transactional(pessoaReativaRepository.inserir(pessoa))
+                        .onErrorMap(DataIntegrityViolationException.class,
+                                e -> new CpfJaCadastradoException(pessoa.getCpf())))
+                .doOnNext(this::indexar)
+                .map(pessoaMapper::toDto);
+    }
+
+    public Mono<PessoaDTO> buscarUm(Long id) {
+        return pessoaReativaRepository.buscarPorId(id)
+                .switchIfEmpty(Mono.error(() -> new PessoaNaoEncontradaException(id)))
+                .map(pessoaMapper::toDto);
+    }
+
+    public Mono<Page<PessoaDTO>> buscaPaginada(int pagina, int registros) {
+        return Mono.defer(() -> {
+            PageRequest paginacao = PageRequest.of(pagina, registros, Sort.by("id"));
+
+            return pessoaReativaRepository.contar()
+                    .flatMap(total -> pessoaReativaRepository.buscarPagina(paginacao.getOffset(), registros)
+                            .map(pessoaMapper::toDto)
+                            .collectList()
+                            .map(conteudo -> new PageImpl<>(conteudo, paginacao, total)));
+        });
+    }
+
+    public Mono<PessoaDTO> atualizar(Long id, PessoaDTO pessoaDTO) {
+        return Mono.fromCallable(() -> {
+            ValidarPessoa.validarDados(pessoaDTO);
+            Pessoa pessoa = pessoaMapper.toModel(pessoaDTO);
+            pessoa.setId(id);
+            return pessoa;
+        })
+                .flatMap(pessoa -> verificarCpfDisponivel(pessoa.getCpf(), id).thenReturn(pessoa))
+                .flatMap(pessoa -> transacaoReativa.transactional(pessoaReativaRepository.atualizar(pessoa))
+                        .onErrorMap(DataIntegrityViolationException.class,
+                                e -> new CpfJaCadastradoException(pessoa.getCpf())))
+                .flatMap(atualizados -> atualizados == 0
+                        ? Mono.error(new PessoaNaoEncontradaException(id))
+                        : pessoaReativaRepository.buscarPorId(id))
+                .doOnNext(this::indexar)
+                .flatMap(pessoa -> invalidar(id).thenReturn(pessoa))
+                .map(pessoaMapper::toDto);
+    }
+
+    public Mono<Void> deletar(Long id) {
+        return transacaoReativa.transactional(pessoaReativaRepository.deletar(id))
+                .flatMap(removidos -> removidos == 0
+                        ? Mono.error(new PessoaNaoEncontradaException(id))
+                        : invalidar(id))
+                .doOnSuccess(vazio -> indiceNomes.remover(id));
+    }
+
+    private Mono<Void> verificarCpfDisponivel(String cpf, Long id) {
+        if (!filtroCPF.talvezContenha(cpf)) {
+            return Mono.empty();
+        }
+
+        return pessoaReativaRepository.existePorCpf(cpf, id)
+                .flatMap(cadastrado -> cadastrado
+                        ? Mono.error(new CpfJaCadastradoException(cpf))
+                        : Mono.empty());
+    }
+
+    private Mono<Void> invalidar(Long id) {
+        return Mono.<Void>fromRunnable(() -> cachePessoas.invalidar(id))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void indexar(Pessoa pessoa) {
+        filtroCPF.adicionar(pessoa.getCpf());
+        indiceNomes.indexar(new PessoaResumoDTO(pessoa.getId(), pessoa.getNome(), pessoa.getCpf()));
+    }
+}
@@ -1,97 +1,633 @@
 package com.lucas.cadastropessoas.service;
 
-import org.modelmapper.ModelMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.lucas.cadastropessoas.busca.IndiceNomes;
+import com.lucas.cadastropessoas.cache.CachePessoas;
+import com.lucas.cadastropessoas.dto.AtualizacaoMassaDTO;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.ErroLoteDTO;
+import com.lucas.cadastropessoas.dto.FiltroMassaDTO;
+import com.lucas.cadastropessoas.dto.LoteDTO;
+import com.lucas.cadastropessoas.dto.PaginaCursorDTO;
 import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+import com.lucas.cadastropessoas.dto.PessoasPorIdDTO;
+import com.lucas.cadastropessoas.dto.ResultadoMassaDTO;
+import com.lucas.cadastropessoas.entity.Contato;
 import com.lucas.cadastropessoas.entity.Pessoa;
 import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.ContatoNaoEncontradoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
 import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.exception.VersaoDesatualizadaException;
+import com.lucas.cadastropessoas.mapper.PessoaMapper;
+import com.lucas.cadastropessoas.metricas.ContadorFalhasValidacao;
+import com.lucas.cadastropessoas.replica.RoteadorReplicas;
+import com.lucas.cadastropessoas.repository.ContatoRepository;
 import com.lucas.cadastropessoas.repository.PessoaRepository;
 import com.lucas.cadastropessoas.validator.ValidarCPF;
-import com.lucas.cadastropessoas.validator.ValidarDataFutura;
+import com.lucas.cadastropessoas.validator.ValidarPessoa;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
+@Timed("cadastro.servico")
 public class PessoaService {
 
     @Autowired
     private PessoaRepository pessoaRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ContatoRepository contatoRepository;
 
-    public PessoaDTO cadastrar(PessoaDTO pessoaDTO) throws CampoInvalidoException {
-        if (pessoaDTO.getNome() == null || pessoaDTO.getNome().isEmpty()) {
-            throw new CampoInvalidoException("nome");
-        }
+    @Autowired
+    private PessoaMapper pessoaMapper;
 
-        if (!ValidarCPF.cpfValido(pessoaDTO.getCpf())) {
-            throw new CampoInvalidoException("cpf");
-        }
+    @Autowired
+    private Validator validator;
 
-        if (ValidarDataFutura.dataFutura(pessoaDTO.getDataNascimento())) {
-            throw new CampoInvalidoException("dataNascimento");
-        }
+    @Autowired
+    private FiltroCPF filtroCPF;
+
+    @Autowired
+    private CachePessoas cachePessoas;
+
+    @Autowired
+    private IndiceNomes indiceNomes;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ContadorFalhasValidacao contadorFalhasValidacao;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${cadastro.lote.tamanho:500}")
+    private int tamanhoLote;
+
+    @Value("${cadastro.paginacao.maximo-registros:1000}")
+    private int maximoRegistros;
 
-        if (pessoaDTO.getContatos() == null || pessoaDTO.getContatos().isEmpty()) {
-            throw new CampoInvalidoException("contatos");
+    @Value("${cadastro.busca-nome.maximo-resultados:50}")
+    private int maximoResultadosBusca;
+
+    @Value("${cadastro.busca-ids.maximo:100}")
+    private int maximoIds;
+
+    @Value("${cadastro.massa.tamanho-lote:5000}")
+    private int tamanhoLoteMassa;
+
+    private TransactionTemplate leituraNoPrimario;
+
+    @PostConstruct
+    void iniciar() {
+        leituraNoPrimario = RoteadorReplicas.leituraNoPrimario(transactionTemplate.getTransactionManager());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregarFiltroCPF() {
+        try (Stream<String> cpfs = pessoaRepository.buscaCpfs()) {
+            filtroCPF.carregar(cpfs);
         }
+    }
+
+    public PessoaDTO cadastrar(PessoaDTO pessoaDTO) throws CampoInvalidoException, CpfJaCadastradoException {
+        ValidarPessoa.validar(pessoaDTO);
+        verificarCpfDisponivel(pessoaDTO.getCpf(), null);
 
         Pessoa pessoa = toModel(pessoaDTO);
-        Pessoa pessoaInserida = pessoaRepository.save(pessoa);
+        Pessoa pessoaInserida = salvar(pessoa);
 
         return toDto(pessoaInserida);
     }
 
+    public LoteDTO cadastrarLote(List<PessoaDTO> pessoasDTO) {
+        List<ErroLoteDTO> erros = new ArrayList<>();
+        Set<String> cpfsDoLote = new HashSet<>();
+        List<Pessoa> pendentes = new ArrayList<>(tamanhoLote);
+        List<Integer> indicesPendentes = new ArrayList<>(tamanhoLote);
+        int gravados = 0;
+
+        for (int indice = 0; indice < pessoasDTO.size(); indice++) {
+            try {
+                Pessoa pessoa = prepararCadastro(pessoasDTO.get(indice));
+                if (!cpfsDoLote.add(pessoa.getCpf())) {
+                    throw new CpfJaCadastradoException(pessoa.getCpf());
+                }
+                pendentes.add(pessoa);
+                indicesPendentes.add(indice);
+            } catch (CampoInvalidoException | CpfJaCadastradoException e) {
+                contadorFalhasValidacao.registrar(e);
+                erros.add(new ErroLoteDTO(indice, e.getMessage()));
+            }
+
+            if (pendentes.size() == tamanhoLote) {
+                gravados += gravarLote(pendentes, indicesPendentes, erros);
+            }
+        }
+
+        if (!pendentes.isEmpty()) {
+            gravados += gravarLote(pendentes, indicesPendentes, erros);
+        }
+
+        return new LoteDTO(pessoasDTO.size(), gravados, erros);
+    }
+
     public void deletar(Long id) {
         pessoaRepository.deleteById(id);
+        cachePessoas.invalidar(id);
+        indiceNomes.remover(id);
+    }
+
+    public void deletar(Long id, Long versao) throws VersaoDesatualizadaException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Pessoa pessoa = pessoaRepository.findById(id)
+                        .filter(pessoaEncontrada -> pessoaEncontrada.getVersao().equals(versao))
+                        .orElseThrow(() -> new ObjectOptimisticLockingFailureException(Pessoa.class, id));
+                pessoaRepository.delete(pessoa);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException(id);
+        }
+
+        cachePessoas.invalidar(id);
+        indiceNomes.remover(id);
     }
 
+    public ResultadoMassaDTO excluirEmMassa(FiltroMassaDTO filtro) throws CampoInvalidoException {
+        long inicio = System.nanoTime();
+        if (porPeriodo(filtro)) {
+            int afetados = transactionTemplate.execute(status -> pessoaRepository.excluirCadastradasEntre(
+                    filtro.getCadastradasDe(), filtro.getCadastradasAte(), excluidas -> {
+                        cachePessoas.invalidar(excluidas);
+                        aposCommit(() -> excluidas.forEach(indiceNomes::remover));
+                    }));
+            return new ResultadoMassaDTO(afetados, (System.nanoTime() - inicio) / 1_000_000);
+        }
+
+        List<Long> ids = idsDistintos(filtro);
+        int afetados = transactionTemplate.execute(status -> emLotes(ids, pessoaRepository::excluir));
+        cachePessoas.invalidar(ids);
+        ids.forEach(indiceNomes::remover);
+
+        return new ResultadoMassaDTO(afetados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public ResultadoMassaDTO atualizarEmMassa(AtualizacaoMassaDTO atualizacao) throws CampoInvalidoException {
+        long inicio = System.nanoTime();
+        PessoaParcialDTO alteracoes = atualizacao.getAlteracoes();
+        if (alteracoes == null) {
+            throw new CampoInvalidoException("alteracoes");
+        }
+        // O CPF é único: não pode ser o mesmo em várias pessoas.
+        if (alteracoes.getCpf() != null) {
+            throw new CampoInvalidoException("cpf");
+        }
+        alteracoes.setVersao(null);
+        ValidarPessoa.validarParcial(alteracoes);
+        FiltroMassaDTO filtro = atualizacao.getFiltro();
+        if (porPeriodo(filtro)) {
+            int afetados = transactionTemplate.execute(status -> pessoaRepository.atualizarCadastradasEntre(
+                    filtro.getCadastradasDe(), filtro.getCadastradasAte(), alteracoes, atualizadas -> {
+                        cachePessoas.invalidar(atualizadas);
+                        if (alteracoes.getNome() != null) {
+                            aposCommit(() -> atualizadas.forEach(
+                                    id -> indiceNomes.atualizar(id, alteracoes.getNome(), null)));
+                        }
+                    }));
+            return new ResultadoMassaDTO(afetados, (System.nanoTime() - inicio) / 1_000_000);
+        }
+
+        List<Long> ids = idsDistintos(filtro);
+        int afetados = transactionTemplate.execute(
+                status -> emLotes(ids, lote -> pessoaRepository.atualizarParcial(lote, alteracoes)));
+        cachePessoas.invalidar(ids);
+        if (alteracoes.getNome() != null) {
+            ids.forEach(id -> indiceNomes.atualizar(id, alteracoes.getNome(), null));
+        }
+
+        return new ResultadoMassaDTO(afetados, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    // O cache é preenchido a partir do primário: logo depois de uma escrita, uma réplica atrasada devolveria a versão
+    // anterior, que ficaria no cache até expirar.
+    @Cacheable(cacheNames = CachePessoas.NOME, key = "#id")
     public PessoaDTO buscarUm(Long id) throws PessoaNaoEncontradaException {
-        Pessoa pessoaEncontrada = pessoaRepository.findById(id).orElseThrow(() -> new PessoaNaoEncontradaException(id));
+        return leituraNoPrimario.execute(status -> pessoaRepository.findById(id).map(this::toDto))
+                .orElseThrow(() -> new PessoaNaoEncontradaException(id));
+    }
+
+    @Transactional(readOnly = true)
+    public PessoasPorIdDTO buscarPorIds(List<Long> ids) throws CampoInvalidoException {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new CampoInvalidoException("ids");
+        }
+
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        if (distintos.size() > maximoIds) {
+            throw new CampoInvalidoException("ids");
+        }
+
+        Map<Long, Pessoa> encontradas = new HashMap<>();
+        pessoaRepository.findByIdIn(distintos).forEach(pessoa -> encontradas.put(pessoa.getId(), pessoa));
+
+        List<PessoaDTO> pessoas = new ArrayList<>(encontradas.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : distintos) {
+            Pessoa pessoa = encontradas.get(id);
+            if (pessoa == null) {
+                naoEncontrados.add(id);
+            } else {
+                pessoas.add(toDto(pessoa));
+            }
+        }
+
+        return new PessoasPorIdDTO(pessoas, naoEncontrados);
+    }
+
+    public PessoaDTO buscarPorCpf(String cpf) throws CampoInvalidoException, PessoaNaoEncontradaException {
+        String cpfNormalizado = ValidarCPF.normalizar(cpf);
+        if (cpfNormalizado == null) {
+            throw new CampoInvalidoException("cpf");
+        }
+
+        // Sem o filtro de CPF: ele é local ao nó e não vê os cadastros feitos por outros nós.
+        Pessoa pessoaEncontrada = pessoaRepository.findByCpf(cpfNormalizado)
+                .orElseThrow(() -> new PessoaNaoEncontradaException(cpfNormalizado));
         return toDto(pessoaEncontrada);
     }
 
+    public List<PessoaResumoDTO> buscarPorNome(String nome, int limite) throws CampoInvalidoException {
+        if (nome == null || nome.isBlank()) {
+            throw new CampoInvalidoException("nome");
+        }
+
+        if (limite < 1 || limite > maximoResultadosBusca) {
+            throw new CampoInvalidoException("limite");
+        }
+
+        return indiceNomes.buscar(nome.strip(), limite);
+    }
+
+    @Transactional(readOnly = true)
     public Page<PessoaDTO> buscaPaginada(int pagina, int registros) {
         PageRequest paginacao = PageRequest.of(pagina, registros, Sort.by("id"));
 
         return pessoaRepository.buscaPaginada(paginacao).map(this::toDto);
     }
 
-    public PessoaDTO atualizar(Long id, PessoaDTO pessoaDTO)
-            throws PessoaNaoEncontradaException, CampoInvalidoException {
-        if (pessoaDTO.getNome() == null || pessoaDTO.getNome().isEmpty()) {
-            throw new CampoInvalidoException("nome");
-        }
+    // Projeção direto da consulta: sem entidades no contexto de persistência e sem carregar contatos.
+    @Transactional(readOnly = true)
+    public Page<PessoaResumoDTO> buscaPaginadaResumo(int pagina, int registros) {
+        return pessoaRepository.buscaResumosPaginada(PageRequest.of(pagina, registros, Sort.by("id")));
+    }
 
-        if (!ValidarCPF.cpfValido(pessoaDTO.getCpf())) {
-            throw new CampoInvalidoException("cpf");
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<PessoaDTO> buscaPorCursor(String cursor, int registros) throws CampoInvalidoException {
+        if (registros < 1 || registros > maximoRegistros) {
+            throw new CampoInvalidoException("registros");
         }
 
-        if (ValidarDataFutura.dataFutura(pessoaDTO.getDataNascimento())) {
-            throw new CampoInvalidoException("dataNascimento");
-        }
+        long apos = CursorPaginacao.decodificar(cursor);
+        List<Pessoa> pessoas = pessoaRepository.buscaAposId(apos, PageRequest.ofSize(registros + 1));
 
-        Pessoa pessoaEncontrada = toModel(this.buscarUm(id));
+        List<PessoaDTO> conteudo = pessoas.stream().limit(registros).map(this::toDto).toList();
+        String proximo = pessoas.size() > registros
+                ? CursorPaginacao.codificar(conteudo.get(conteudo.size() - 1).getId())
+                : null;
+
+        return new PaginaCursorDTO<>(conteudo, conteudo.size(), proximo);
+    }
+
+    public PessoaDTO atualizar(Long id, PessoaDTO pessoaDTO) throws PessoaNaoEncontradaException,
+            CampoInvalidoException, CpfJaCadastradoException, VersaoDesatualizadaException {
+        ValidarPessoa.validarDados(pessoaDTO);
+        verificarCpfDisponivel(pessoaDTO.getCpf(), id);
+
+        // A leitura que antecede a escrita vai ao primário, que não sofre atraso de replicação.
+        PessoaDTO pessoaAtual = transactionTemplate.execute(status -> pessoaRepository.findById(id).map(this::toDto))
+                .orElseThrow(() -> new PessoaNaoEncontradaException(id));
+        Pessoa pessoaEncontrada = toModel(pessoaAtual);
 
         pessoaEncontrada.setNome(pessoaDTO.getNome());
         pessoaEncontrada.setCpf(pessoaDTO.getCpf());
         pessoaEncontrada.setDataNascimento(pessoaDTO.getDataNascimento());
+        if (pessoaDTO.getVersao() != null) {
+            pessoaEncontrada.setVersao(pessoaDTO.getVersao());
+        }
 
-        Pessoa pessoaAtualizada = pessoaRepository.save(pessoaEncontrada);
+        Pessoa pessoaAtualizada;
+        try {
+            pessoaAtualizada = salvar(pessoaEncontrada);
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException(id);
+        }
+        cachePessoas.invalidar(id);
 
         return toDto(pessoaAtualizada);
     }
 
+    public void atualizarParcial(Long id, PessoaParcialDTO pessoaParcialDTO) throws PessoaNaoEncontradaException,
+            CampoInvalidoException, CpfJaCadastradoException, VersaoDesatualizadaException {
+        ValidarPessoa.validarParcial(pessoaParcialDTO);
+
+        int atualizados;
+        try {
+            atualizados = pessoaRepository.atualizarParcial(id, pessoaParcialDTO);
+        } catch (DataIntegrityViolationException e) {
+            throw new CpfJaCadastradoException(pessoaParcialDTO.getCpf());
+        }
+
+        if (atualizados == 0) {
+            if (pessoaParcialDTO.getVersao() != null && pessoaRepository.existsById(id)) {
+                throw new VersaoDesatualizadaException(id);
+            }
+            throw new PessoaNaoEncontradaException(id);
+        }
+
+        cachePessoas.invalidar(id);
+        if (pessoaParcialDTO.getCpf() != null) {
+            filtroCPF.adicionar(pessoaParcialDTO.getCpf());
+        }
+        if (pessoaParcialDTO.getNome() != null || pessoaParcialDTO.getCpf() != null) {
+            indiceNomes.atualizar(id, pessoaParcialDTO.getNome(), pessoaParcialDTO.getCpf());
+        }
+    }
+
+    public ContatoDTO adicionarContato(Long pessoaId, ContatoDTO contatoDTO, Long versao)
+            throws PessoaNaoEncontradaException, VersaoDesatualizadaException {
+        Contato contato = pessoaMapper.toModel(contatoDTO);
+        contato.setId(null);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                incrementarVersao(pessoaId, versao);
+                contato.setPessoa(entityManager.getReference(Pessoa.class, pessoaId));
+                contatoRepository.save(contato);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            if (versao != null && pessoaRepository.existsById(pessoaId)) {
+                throw new VersaoDesatualizadaException(pessoaId);
+            }
+            throw new PessoaNaoEncontradaException(pessoaId);
+        }
+
+        cachePessoas.invalidar(pessoaId);
+        return pessoaMapper.toDto(contato);
+    }
+
+    public ContatoDTO atualizarContato(Long pessoaId, Long id, ContatoDTO contatoDTO, Long versao)
+            throws ContatoNaoEncontradoException, VersaoDesatualizadaException {
+        boolean atualizado;
+        try {
+            atualizado = transactionTemplate.execute(status -> {
+                incrementarVersao(pessoaId, versao);
+                if (contatoRepository.atualizar(pessoaId, id, contatoDTO.getNome(), contatoDTO.getTelefone(),
+                        contatoDTO.getEmail()) == 0) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            if (versao != null && pessoaRepository.existsById(pessoaId)) {
+                throw new VersaoDesatualizadaException(pessoaId);
+            }
+            throw new ContatoNaoEncontradoException(pessoaId, id);
+        }
+
+        if (!atualizado) {
+            throw new ContatoNaoEncontradoException(pessoaId, id);
+        }
+
+        cachePessoas.invalidar(pessoaId);
+        contatoDTO.setId(id);
+        return contatoDTO;
+    }
+
+    public void removerContato(Long pessoaId, Long id, Long versao)
+            throws CampoInvalidoException, ContatoNaoEncontradoException, VersaoDesatualizadaException {
+        boolean removido;
+        try {
+            // A versão vem primeiro: o UPDATE trava a linha da pessoa, e a contagem de contatos do DELETE não corre
+            // com outra remoção concorrente.
+            removido = transactionTemplate.execute(status -> {
+                incrementarVersao(pessoaId, versao);
+                if (contatoRepository.remover(pessoaId, id) == 0) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            if (versao != null && pessoaRepository.existsById(pessoaId)) {
+                throw new VersaoDesatualizadaException(pessoaId);
+            }
+            throw new ContatoNaoEncontradoException(pessoaId, id);
+        }
+
+        if (!removido) {
+            if (contatoRepository.existsByIdAndPessoaId(id, pessoaId)) {
+                throw new CampoInvalidoException("contatos");
+            }
+            throw new ContatoNaoEncontradoException(pessoaId, id);
+        }
+
+        cachePessoas.invalidar(pessoaId);
+    }
+
+    public Pessoa prepararCadastro(PessoaDTO pessoaDTO) throws CampoInvalidoException, CpfJaCadastradoException {
+        if (pessoaDTO == null) {
+            throw new CampoInvalidoException("pessoa");
+        }
+
+        Set<ConstraintViolation<PessoaDTO>> violacoes = validator.validate(pessoaDTO);
+        if (!violacoes.isEmpty()) {
+            throw new CampoInvalidoException(violacoes.iterator().next().getPropertyPath().toString());
+        }
+
+        ValidarPessoa.validar(pessoaDTO);
+        verificarCpfDisponivel(pessoaDTO.getCpf(), null);
+
+        Pessoa pessoa = toModel(pessoaDTO);
+        pessoa.setId(null);
+        pessoa.getContatos().forEach(contato -> contato.setId(null));
+
+        return pessoa;
+    }
+
+    public List<Pessoa> gravar(List<Pessoa> pessoas) {
+        List<Pessoa> salvas = transactionTemplate.execute(status -> {
+            List<Pessoa> pessoasSalvas = pessoaRepository.saveAll(pessoas);
+            entityManager.flush();
+            entityManager.clear();
+            return pessoasSalvas;
+        });
+        salvas.forEach(this::indexar);
+
+        return salvas;
+    }
+
+    // O rollback não desfaz os IDs e a versão que o persist atribuiu; sem eles, a pessoa volta a ser nova.
+    public static void descartarIdentificadores(Pessoa pessoa) {
+        pessoa.setId(null);
+        pessoa.setVersao(null);
+        pessoa.getContatos().forEach(contato -> contato.setId(null));
+    }
+
     public Pessoa toModel(PessoaDTO pessoaDTO) {
-        return modelMapper.map(pessoaDTO, Pessoa.class);
+        return pessoaMapper.toModel(pessoaDTO);
     }
 
     public PessoaDTO toDto(Pessoa pessoa) {
-        return modelMapper.map(pessoa, PessoaDTO.class);
+        return pessoaMapper.toDto(pessoa);
+    }
+
+    private void verificarCpfDisponivel(String cpf, Long id) throws CpfJaCadastradoException {
+        if (!filtroCPF.talvezContenha(cpf)) {
+            return;
+        }
+
+        boolean cadastrado = id == null
+                ? pessoaRepository.existsByCpf(cpf)
+                : pessoaRepository.existsByCpfAndIdNot(cpf, id);
+        if (cadastrado) {
+            throw new CpfJaCadastradoException(cpf);
+        }
+    }
+
+    // Os contatos fazem parte da representação da pessoa: alterá-los muda a versão e, com ela, o ETag.
+    private void incrementarVersao(Long id, Long versao) {
+        if (pessoaRepository.atualizarParcial(id, new PessoaParcialDTO(null, null, null, versao)) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Pessoa.class, id);
+        }
+    }
+
+    private Pessoa salvar(Pessoa pessoa) throws CpfJaCadastradoException {
+        Pessoa pessoaSalva;
+        try {
+            pessoaSalva = pessoaRepository.save(pessoa);
+        } catch (DataIntegrityViolationException e) {
+            throw new CpfJaCadastradoException(pessoa.getCpf());
+        }
+
+        indexar(pessoaSalva);
+        return pessoaSalva;
+    }
+
+    private void indexar(Pessoa pessoa) {
+        filtroCPF.adicionar(pessoa.getCpf());
+        indiceNomes.indexar(new PessoaResumoDTO(pessoa.getId(), pessoa.getNome(), pessoa.getCpf()));
+    }
+
+    // Exatamente um critério: a lista de IDs ou o período de cadastro, para não afetar a tabela inteira por engano.
+    private static boolean porPeriodo(FiltroMassaDTO filtro) throws CampoInvalidoException {
+        if (filtro == null) {
+            throw new CampoInvalidoException("filtro");
+        }
+
+        boolean porIds = filtro.getIds() != null && !filtro.getIds().isEmpty();
+        boolean porPeriodo = filtro.getCadastradasDe() != null || filtro.getCadastradasAte() != null;
+        if (porIds == porPeriodo) {
+            throw new CampoInvalidoException("filtro");
+        }
+
+        return porPeriodo;
+    }
+
+    private static List<Long> idsDistintos(FiltroMassaDTO filtro) throws CampoInvalidoException {
+        if (filtro.getIds().contains(null)) {
+            throw new CampoInvalidoException("ids");
+        }
+        return new ArrayList<>(new LinkedHashSet<>(filtro.getIds()));
+    }
+
+    // O índice de nomes não participa da transação: só muda depois que ela for confirmada.
+    private static void aposCommit(Runnable acao) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    private int emLotes(List<Long> ids, ToIntFunction<List<Long>> operacao) {
+        int afetados = 0;
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLoteMassa) {
+            afetados += operacao.applyAsInt(ids.subList(inicio, Math.min(inicio + tamanhoLoteMassa, ids.size())));
+        }
+        return afetados;
+    }
+
+    private int gravarLote(List<Pessoa> pendentes, List<Integer> indicesPendentes, List<ErroLoteDTO> erros) {
+        int gravados = gravarSeparandoFalhas(List.copyOf(pendentes), List.copyOf(indicesPendentes), erros);
+
+        pendentes.clear();
+        indicesPendentes.clear();
+
+        return gravados;
+    }
+
+    private int gravarSeparandoFalhas(List<Pessoa> pessoas, List<Integer> indices, List<ErroLoteDTO> erros) {
+        try {
+            gravar(pessoas);
+            return pessoas.size();
+        } catch (DataAccessException | PersistenceException e) {
+            if (pessoas.size() == 1) {
+                String mensagem = e instanceof DataIntegrityViolationException
+                        ? new CpfJaCadastradoException(pessoas.get(0).getCpf()).getMessage()
+                        : NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                erros.add(new ErroLoteDTO(indices.get(0), mensagem));
+                return 0;
+            }
+
+            // Um cadastro com erro desfaz a transação do lote inteiro; regravando um a um, só ele falha.
+            int gravados = 0;
+            for (int i = 0; i < pessoas.size(); i++) {
+                descartarIdentificadores(pessoas.get(i));
+                gravados += gravarSeparandoFalhas(List.of(pessoas.get(i)), List.of(indices.get(i)), erros);
+            }
+            return gravados;
+        }
     }
 }
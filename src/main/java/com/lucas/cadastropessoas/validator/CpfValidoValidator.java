@@ -0,0 +1,12 @@
+package com.lucas.cadastropessoas.validator;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidoValidator implements ConstraintValidator<CpfValido, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence cpf, ConstraintValidatorContext context) {
+        return cpf == null || ValidarCPF.cpfValido(cpf);
+    }
+}
@@ -1,56 +1,104 @@
 package com.lucas.cadastropessoas.validator;
 
-import java.util.InputMismatchException;
+import java.util.List;
+import java.util.stream.IntStream;
 
 public class ValidarCPF {
-    public static boolean cpfValido(String CPF) {
-        try {
-            if (CPF.equals("00000000000") ||
-                    CPF.equals("11111111111") ||
-                    CPF.equals("22222222222") || CPF.equals("33333333333") ||
-                    CPF.equals("44444444444") || CPF.equals("55555555555") ||
-                    CPF.equals("66666666666") || CPF.equals("77777777777") ||
-                    CPF.equals("88888888888") || CPF.equals("99999999999") ||
-                    (CPF.length() != 11))
-                return (false);
-
-            char dig10, dig11;
-            int sm, i, r, num, peso;
-
-            sm = 0;
-            peso = 10;
-            for (i = 0; i < 9; i++) {
-                num = (int) (CPF.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso - 1;
+
+    private static final int DIGITOS = 11;
+
+    private static final int TAMANHO_MASCARA = 14;
+
+    private static final int TAMANHO_BLOCO = 16_384;
+
+    public static boolean cpfValido(CharSequence cpf) {
+        if (cpf == null) {
+            return false;
+        }
+
+        int tamanho = cpf.length();
+        if (tamanho != DIGITOS && tamanho != TAMANHO_MASCARA) {
+            return false;
+        }
+
+        int soma10 = 0, soma11 = 0, digito10 = 0, digito11 = 0, primeiro = cpf.charAt(0);
+        boolean repetido = true;
+
+        for (int i = 0, posicao = 0; i < tamanho; i++) {
+            char caractere = cpf.charAt(i);
+            if (tamanho == TAMANHO_MASCARA && (i == 3 || i == 7 || i == 11)) {
+                if (caractere != (i == 11 ? '-' : '.')) {
+                    return false;
+                }
+                continue;
+            }
+
+            int digito = caractere - '0';
+            if (digito < 0 || digito > 9) {
+                return false;
             }
 
-            r = 11 - (sm % 11);
-            if ((r == 10) || (r == 11))
-                dig10 = '0';
-            else
-                dig10 = (char) (r + 48);
-
-            sm = 0;
-            peso = 11;
-            for (i = 0; i < 10; i++) {
-                num = (int) (CPF.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso - 1;
+            repetido &= caractere == primeiro;
+            if (posicao < 9) {
+                soma10 += digito * (10 - posicao);
+                soma11 += digito * (11 - posicao);
+            } else if (posicao == 9) {
+                soma11 += digito * 2;
+                digito10 = digito;
+            } else {
+                digito11 = digito;
+            }
+            posicao++;
+        }
+
+        return verificar(repetido, soma10, soma11, digito10, digito11);
+    }
+
+    public static String normalizar(CharSequence cpf) {
+        return cpfValido(cpf) ? semMascara(cpf) : null;
+    }
+
+    // Para um CPF já validado, como os de validarLote.
+    public static String semMascara(CharSequence cpf) {
+        if (cpf.length() == DIGITOS) {
+            return cpf.toString();
+        }
+
+        char[] digitos = new char[DIGITOS];
+        for (int i = 0, posicao = 0; i < TAMANHO_MASCARA; i++) {
+            char caractere = cpf.charAt(i);
+            if (caractere >= '0' && caractere <= '9') {
+                digitos[posicao++] = caractere;
             }
+        }
+        return new String(digitos);
+    }
+
+    public static boolean[] validarLote(List<? extends CharSequence> cpfs) {
+        boolean[] validos = new boolean[cpfs.size()];
+        int blocos = (cpfs.size() + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
 
-            r = 11 - (sm % 11);
-            if ((r == 10) || (r == 11))
-                dig11 = '0';
-            else
-                dig11 = (char) (r + 48);
-
-            if ((dig10 == CPF.charAt(9)) && (dig11 == CPF.charAt(10)))
-                return (true);
-            else
-                return (false);
-        } catch (Exception erro) {
-            return (false);
+        IntStream indices = IntStream.range(0, blocos);
+        if (blocos > 1) {
+            indices = indices.parallel();
         }
+
+        indices.forEach(bloco -> {
+            int fim = Math.min(validos.length, (bloco + 1) * TAMANHO_BLOCO);
+            for (int i = bloco * TAMANHO_BLOCO; i < fim; i++) {
+                validos[i] = cpfValido(cpfs.get(i));
+            }
+        });
+
+        return validos;
+    }
+
+    private static boolean verificar(boolean repetido, int soma10, int soma11, int digito10, int digito11) {
+        return !repetido && digito10 == digitoVerificador(soma10) && digito11 == digitoVerificador(soma11);
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = 11 - (soma % 11);
+        return resto >= 10 ? 0 : resto;
     }
 }
@@ -0,0 +1,55 @@
+package com.lucas.cadastropessoas.validator;
+
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+
+public class ValidarPessoa {
+    public static void validarDados(PessoaDTO pessoaDTO) throws CampoInvalidoException {
+        if (pessoaDTO.getNome() == null || pessoaDTO.getNome().isEmpty()) {
+            throw new CampoInvalidoException("nome");
+        }
+
+        String cpf = ValidarCPF.normalizar(pessoaDTO.getCpf());
+        if (cpf == null) {
+            throw new CampoInvalidoException("cpf");
+        }
+        pessoaDTO.setCpf(cpf);
+
+        if (ValidarDataFutura.dataFutura(pessoaDTO.getDataNascimento())) {
+            throw new CampoInvalidoException("dataNascimento");
+        }
+    }
+
+    public static void validarParcial(PessoaParcialDTO pessoaParcialDTO) throws CampoInvalidoException {
+        if (pessoaParcialDTO.getNome() == null && pessoaParcialDTO.getCpf() == null
+                && pessoaParcialDTO.getDataNascimento() == null) {
+            throw new CampoInvalidoException("pessoa");
+        }
+
+        if (pessoaParcialDTO.getNome() != null && pessoaParcialDTO.getNome().isEmpty()) {
+            throw new CampoInvalidoException("nome");
+        }
+
+        if (pessoaParcialDTO.getCpf() != null) {
+            String cpf = ValidarCPF.normalizar(pessoaParcialDTO.getCpf());
+            if (cpf == null) {
+                throw new CampoInvalidoException("cpf");
+            }
+            pessoaParcialDTO.setCpf(cpf);
+        }
+
+        if (pessoaParcialDTO.getDataNascimento() != null
+                && ValidarDataFutura.dataFutura(pessoaParcialDTO.getDataNascimento())) {
+            throw new CampoInvalidoException("dataNascimento");
+        }
+    }
+
+    public static void validar(PessoaDTO pessoaDTO) throws CampoInvalidoException {
+        validarDados(pessoaDTO);
+
+        if (pessoaDTO.getContatos() == null || pessoaDTO.getContatos().isEmpty()) {
+            throw new CampoInvalidoException("contatos");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+CREATE SEQUENCE pessoa_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE contato_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE pessoa (
+    id BIGINT NOT NULL,
+    nome VARCHAR(255) NOT NULL,
+    cpf VARCHAR(11) NOT NULL,
+    data_nascimento DATE NOT NULL,
+    versao BIGINT,
+    CONSTRAINT pessoa_pkey PRIMARY KEY (id)
+);
+
+-- Busca por CPF e verificação de CPF já cadastrado.
+CREATE UNIQUE INDEX pessoa_cpf_idx ON pessoa (cpf);
+
+CREATE TABLE contato (
+    id BIGINT NOT NULL,
+    nome VARCHAR(255) NOT NULL,
+    telefone VARCHAR(11) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    pessoa_id BIGINT NOT NULL,
+    CONSTRAINT contato_pkey PRIMARY KEY (id),
+    CONSTRAINT contato_pessoa_fk FOREIGN KEY (pessoa_id) REFERENCES pessoa (id)
+);
+
+-- Carga dos contatos de uma página de pessoas (@BatchSize) e remoção em cascata.
+CREATE INDEX contato_pessoa_id_idx ON contato (pessoa_id);
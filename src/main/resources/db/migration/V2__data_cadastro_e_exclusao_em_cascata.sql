@@ -0,0 +1,9 @@
+-- Registros anteriores a esta migração ficam com a data em que ela rodou.
+ALTER TABLE pessoa ADD COLUMN data_cadastro TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+-- Exclusão e atualização em massa por período de cadastro.
+CREATE INDEX pessoa_data_cadastro_idx ON pessoa (data_cadastro);
+
+-- A exclusão em massa apaga só as pessoas; o banco remove os contatos.
+ALTER TABLE contato DROP CONSTRAINT contato_pessoa_fk;
+ALTER TABLE contato ADD CONSTRAINT contato_pessoa_fk FOREIGN KEY (pessoa_id) REFERENCES pessoa (id) ON DELETE CASCADE;
@@ -0,0 +1,30 @@
+package com.lucas.cadastropessoas.builder;
+
+public class GeradorCPF {
+
+    public static String gerar(long semente) {
+        char[] cpf = new char[11];
+        long base = Math.floorMod(semente, 1_000_000_000L);
+
+        for (int i = 8; i >= 0; i--) {
+            cpf[i] = (char) ('0' + base % 10);
+            base /= 10;
+        }
+
+        cpf[9] = digitoVerificador(cpf, 9);
+        cpf[10] = digitoVerificador(cpf, 10);
+
+        String gerado = new String(cpf);
+        return gerado.chars().distinct().count() == 1 ? gerar(semente + 1) : gerado;
+    }
+
+    private static char digitoVerificador(char[] cpf, int tamanho) {
+        int soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += (cpf[i] - '0') * (tamanho + 1 - i);
+        }
+
+        int resto = 11 - (soma % 11);
+        return resto >= 10 ? '0' : (char) ('0' + resto);
+    }
+}
@@ -30,8 +30,10 @@ public class PessoaDTOBuilder {
     private List<ContatoDTO> contatos = new ArrayList<ContatoDTO>(
             Arrays.asList(ContatoDTOBuilder.builder().build().toContatoDTO()));
 
+    private Long versao;
+
     public PessoaDTO toPessoaDTO() {
-        return new PessoaDTO(id, nome, cpf, dataNascimento, contatos);
+        return new PessoaDTO(id, nome, cpf, dataNascimento, contatos, versao);
     }
 
     static Date createPastDate() {
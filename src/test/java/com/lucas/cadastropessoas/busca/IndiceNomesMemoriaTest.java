@@ -0,0 +1,59 @@
+package com.lucas.cadastropessoas.busca;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
+
+public class IndiceNomesMemoriaTest {
+
+    private IndiceNomesMemoria indiceNomes;
+
+    @BeforeEach
+    void setUp() {
+        indiceNomes = new IndiceNomesMemoria();
+        indiceNomes.indexar(new PessoaResumoDTO(1L, "Maria Silva", "42601209054"));
+        indiceNomes.indexar(new PessoaResumoDTO(2L, "Mariana Souza", "52998224725"));
+        indiceNomes.indexar(new PessoaResumoDTO(3L, "José Marinho", "11144477735"));
+        indiceNomes.indexar(new PessoaResumoDTO(4L, "Carlos Pereira", "01234567890"));
+    }
+
+    @Test
+    @DisplayName("Quando buscar por um prefixo deve retornar primeiro os nomes que começam com ele")
+    public void quandoBuscarPorUmPrefixoDeveRetornarPrimeiroOsNomesQueComecamComEle() {
+        List<PessoaResumoDTO> resultado = indiceNomes.buscar("mari", 10);
+
+        assertEquals(List.of(1L, 2L), resultado.stream().limit(2).map(PessoaResumoDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Quando buscar por um nome com erro de digitação deve encontrar o nome parecido")
+    public void quandoBuscarPorUmNomeComErroDeDigitacaoDeveEncontrarONomeParecido() {
+        List<PessoaResumoDTO> resultado = indiceNomes.buscar("Carlos Pereyra", 10);
+
+        assertEquals(4L, resultado.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Quando uma pessoa for removida ou renomeada o índice deve refletir a alteração")
+    public void quandoUmaPessoaForRemovidaOuRenomeadaOIndiceDeveRefletirAAlteracao() {
+        indiceNomes.remover(4L);
+        indiceNomes.indexar(new PessoaResumoDTO(1L, "Ana Lima", "42601209054"));
+
+        assertTrue(indiceNomes.buscar("Carlos Pereira", 10).isEmpty());
+        assertEquals(List.of(2L), indiceNomes.buscar("maria", 10).stream().map(PessoaResumoDTO::getId).toList());
+        assertEquals(1L, indiceNomes.buscar("ana lima", 1).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Quando buscar deve respeitar o limite de resultados")
+    public void quandoBuscarDeveRespeitarOLimiteDeResultados() {
+        assertEquals(1, indiceNomes.buscar("mari", 1).size());
+    }
+}
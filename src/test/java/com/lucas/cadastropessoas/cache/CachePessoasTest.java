@@ -0,0 +1,93 @@
+package com.lucas.cadastropessoas.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.repository.PessoaRepository;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+public class CachePessoasTest {
+
+    @MockBean
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private CanalInvalidacao canalInvalidacao;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private PessoaDTO pessoaDTO;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CachePessoas.NOME).clear();
+        clearInvocations(pessoaRepository);
+
+        pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+        Pessoa pessoa = pessoaService.toModel(pessoaDTO);
+
+        when(pessoaRepository.findById(pessoaDTO.getId())).thenReturn(Optional.of(pessoa));
+        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoa);
+    }
+
+    @Test
+    @DisplayName("Quando o mesmo ID for buscado duas vezes deve consultar o banco apenas uma vez")
+    public void quandoOMesmoIdForBuscadoDuasVezesDeveConsultarOBancoApenasUmaVez() throws Exception {
+        assertEquals(pessoaDTO, pessoaService.buscarUm(pessoaDTO.getId()));
+        assertEquals(pessoaDTO, pessoaService.buscarUm(pessoaDTO.getId()));
+
+        verify(pessoaRepository, times(1)).findById(pessoaDTO.getId());
+    }
+
+    @Test
+    @DisplayName("Quando uma Pessoa for atualizada deve ser removida do cache")
+    public void quandoUmaPessoaForAtualizadaDeveSerRemovidaDoCache() throws Exception {
+        pessoaService.buscarUm(pessoaDTO.getId());
+        pessoaService.atualizar(pessoaDTO.getId(), pessoaDTO);
+        pessoaService.buscarUm(pessoaDTO.getId());
+
+        verify(pessoaRepository, times(3)).findById(pessoaDTO.getId());
+    }
+
+    @Test
+    @DisplayName("Quando uma Pessoa for deletada deve ser removida do cache")
+    public void quandoUmaPessoaForDeletadaDeveSerRemovidaDoCache() throws Exception {
+        pessoaService.buscarUm(pessoaDTO.getId());
+        pessoaService.deletar(pessoaDTO.getId());
+        pessoaService.buscarUm(pessoaDTO.getId());
+
+        verify(pessoaRepository, times(2)).findById(pessoaDTO.getId());
+    }
+
+    @Test
+    @DisplayName("Quando outro nó publicar uma invalidação a Pessoa deve ser removida do cache")
+    public void quandoOutroNoPublicarUmaInvalidacaoAPessoaDeveSerRemovidaDoCache() throws Exception {
+        pessoaService.buscarUm(pessoaDTO.getId());
+        canalInvalidacao.publicar(pessoaDTO.getId());
+        pessoaService.buscarUm(pessoaDTO.getId());
+
+        verify(pessoaRepository, times(2)).findById(pessoaDTO.getId());
+    }
+}
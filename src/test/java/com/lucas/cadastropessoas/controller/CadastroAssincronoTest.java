@@ -0,0 +1,145 @@
+package com.lucas.cadastropessoas.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO.Situacao;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = { "cadastro.ingestao.habilitada=true", "cadastro.ingestao.capacidade=1" })
+public class CadastroAssincronoTest {
+
+    private final String BASE_URL = "/pessoa";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private PessoaService pessoaService;
+
+    @Test
+    @DisplayName("Quando o post pedir resposta assíncrona deve aceitar e gravar em segundo plano")
+    public void quandoOPostPedirRespostaAssincronaDeveAceitarEGravarEmSegundoPlano() throws Exception {
+        SituacaoCadastroDTO aceita = ler(cadastrarAssincrono(pessoa(3000))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async")));
+        assertEquals(Situacao.PENDENTE, aceita.getSituacao());
+
+        SituacaoCadastroDTO situacao = aguardarGravacao(aceita.getProtocolo());
+        assertEquals(Situacao.GRAVADO, situacao.getSituacao());
+
+        mockMvc.perform(get(BASE_URL + "/" + situacao.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Quando o CPF já estiver cadastrado deve retornar conflito sem enfileirar")
+    public void quandoOCpfJaEstiverCadastradoDeveRetornarConflitoSemEnfileirar() throws Exception {
+        SituacaoCadastroDTO primeira = ler(cadastrarAssincrono(pessoa(3001)).andExpect(status().isAccepted()));
+        aguardarGravacao(primeira.getProtocolo());
+
+        cadastrarAssincrono(pessoa(3001)).andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Quando os dados forem inválidos deve recusar antes de enfileirar")
+    public void quandoOsDadosForemInvalidosDeveRecusarAntesDeEnfileirar() throws Exception {
+        PessoaDTO cpfInvalido = pessoa(3002);
+        cpfInvalido.setCpf("12345678901");
+
+        cadastrarAssincrono(cpfInvalido).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Quando a fila estiver cheia deve retornar too many requests")
+    public void quandoAFilaEstiverCheiaDeveRetornarTooManyRequests() throws Exception {
+        CountDownLatch gravando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(invocacao -> {
+            gravando.countDown();
+            liberar.await(10, TimeUnit.SECONDS);
+            return invocacao.callRealMethod();
+        }).when(pessoaService).gravar(anyList());
+
+        try {
+            SituacaoCadastroDTO emGravacao = ler(cadastrarAssincrono(pessoa(3003)).andExpect(status().isAccepted()));
+            gravando.await(10, TimeUnit.SECONDS);
+            SituacaoCadastroDTO naFila = ler(cadastrarAssincrono(pessoa(3004)).andExpect(status().isAccepted()));
+
+            cadastrarAssincrono(pessoa(3005)).andExpect(status().isTooManyRequests());
+
+            liberar.countDown();
+            assertEquals(Situacao.GRAVADO, aguardarGravacao(emGravacao.getProtocolo()).getSituacao());
+            assertEquals(Situacao.GRAVADO, aguardarGravacao(naFila.getProtocolo()).getSituacao());
+        } finally {
+            liberar.countDown();
+            reset(pessoaService);
+        }
+    }
+
+    @Test
+    @DisplayName("Quando o protocolo não existir deve retornar not found")
+    public void quandoOProtocoloNaoExistirDeveRetornarNotFound() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/protocolo/inexistente")).andExpect(status().isNotFound());
+    }
+
+    private ResultActions cadastrarAssincrono(PessoaDTO pessoaDTO) throws Exception {
+        return mockMvc.perform(post(BASE_URL).header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoaDTO)));
+    }
+
+    private SituacaoCadastroDTO aguardarGravacao(String protocolo) throws Exception {
+        SituacaoCadastroDTO situacao;
+        long limite = System.currentTimeMillis() + 10_000;
+        do {
+            Thread.sleep(20);
+            situacao = ler(mockMvc.perform(get(BASE_URL + "/protocolo/" + protocolo)).andExpect(status().isOk()));
+        } while (situacao.getSituacao() == Situacao.PENDENTE && System.currentTimeMillis() < limite);
+
+        return situacao;
+    }
+
+    private SituacaoCadastroDTO ler(ResultActions resultado) throws Exception {
+        return objectMapper.readValue(resultado.andReturn().getResponse().getContentAsString(),
+                SituacaoCadastroDTO.class);
+    }
+
+    private static PessoaDTO pessoa(int indice) {
+        return PessoaDTOBuilder.builder()
+                .id(null)
+                .cpf(GeradorCPF.gerar(indice))
+                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                .build()
+                .toPessoaDTO();
+    }
+}
@@ -0,0 +1,129 @@
+package com.lucas.cadastropessoas.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.repository.PessoaRepository;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ExportacaoTest {
+
+    private final int PESSOAS = 10;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private long primeiroId;
+
+    @BeforeAll
+    void setUp() {
+        List<PessoaDTO> pessoasDTO = new ArrayList<>();
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder()
+                    .id(null)
+                    .cpf(GeradorCPF.gerar(4000 + i))
+                    .contatos(List.of(
+                            ContatoDTOBuilder.builder().id(null).build().toContatoDTO(),
+                            ContatoDTOBuilder.builder().id(null).nome("Nome, com \"aspas\"").build().toContatoDTO()))
+                    .build()
+                    .toPessoaDTO());
+        }
+        pessoaService.cadastrarLote(pessoasDTO);
+
+        primeiroId = pessoaRepository.findByCpf(GeradorCPF.gerar(4000)).orElseThrow().getId();
+    }
+
+    @Test
+    @DisplayName("Quando exportar em NDJSON deve escrever uma pessoa com os contatos por linha")
+    public void quandoExportarEmNdjsonDeveEscreverUmaPessoaComOsContatosPorLinha() throws Exception {
+        HttpResponse<byte[]> resposta = exportar("ndjson", primeiroId - 1, null);
+
+        assertEquals(200, resposta.statusCode());
+        assertTrue(resposta.headers().firstValue("Content-Type").orElseThrow().startsWith("application/x-ndjson"));
+        String[] linhas = new String(resposta.body(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(PESSOAS, linhas.length);
+
+        JsonNode primeira = objectMapper.readTree(linhas[0]);
+        assertEquals(primeiroId, primeira.get("id").asLong());
+        assertEquals(GeradorCPF.gerar(4000), primeira.get("cpf").asText());
+        assertEquals(2, primeira.get("contatos").size());
+    }
+
+    @Test
+    @DisplayName("Quando exportar em CSV com gzip deve comprimir e escrever uma linha por contato")
+    public void quandoExportarEmCsvComGzipDeveComprimirEEscreverUmaLinhaPorContato() throws Exception {
+        HttpResponse<byte[]> resposta = exportar("csv", primeiroId - 1, "gzip");
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("gzip", resposta.headers().firstValue("Content-Encoding").orElseThrow());
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(resposta.body())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        String[] linhas = csv.split("\n");
+
+        assertEquals(1 + PESSOAS * 2, linhas.length);
+        assertTrue(linhas[0].startsWith("id,nome,cpf,data_nascimento"));
+        assertTrue(linhas[1].startsWith(primeiroId + ",Nome teste," + GeradorCPF.gerar(4000) + ","));
+        assertTrue(linhas[2].contains(",\"Nome, com \"\"aspas\"\"\","));
+    }
+
+    @Test
+    @DisplayName("Quando exportar a partir de um ID deve retomar na pessoa seguinte")
+    public void quandoExportarAPartirDeUmIdDeveRetomarNaPessoaSeguinte() throws Exception {
+        HttpResponse<byte[]> resposta = exportar("ndjson", primeiroId + 6, null);
+
+        String[] linhas = new String(resposta.body(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(PESSOAS - 7, linhas.length);
+        assertEquals(primeiroId + 7, objectMapper.readTree(linhas[0]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Quando o formato não existir deve retornar bad request")
+    public void quandoOFormatoNaoExistirDeveRetornarBadRequest() throws Exception {
+        assertEquals(400, exportar("xml", 0, null).statusCode());
+    }
+
+    private HttpResponse<byte[]> exportar(String formato, long apos, String acceptEncoding) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + porta + "/pessoa/export?formato=" + formato + "&apos=" + apos));
+        if (acceptEncoding != null) {
+            requisicao.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,105 @@
+package com.lucas.cadastropessoas.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class FormatosTest {
+
+    private final int PESSOAS = 50;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    void setUp() {
+        List<PessoaDTO> pessoasDTO = new ArrayList<>();
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder()
+                    .id(null)
+                    .cpf(GeradorCPF.gerar(2000 + i))
+                    .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                    .build()
+                    .toPessoaDTO());
+        }
+        pessoaService.cadastrarLote(pessoasDTO);
+    }
+
+    @Test
+    @DisplayName("Quando o Accept pedir CBOR deve responder em CBOR")
+    public void quandoOAcceptPedirCborDeveResponderEmCbor() throws Exception {
+        HttpResponse<byte[]> resposta = buscarPagina("application/cbor", null);
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("application/cbor", resposta.headers().firstValue("Content-Type").orElseThrow());
+        JsonNode pagina = new ObjectMapper(new CBORFactory()).readTree(resposta.body());
+        assertEquals(PESSOAS, pagina.get("content").size());
+    }
+
+    @Test
+    @DisplayName("Quando o Accept pedir Smile deve responder em Smile")
+    public void quandoOAcceptPedirSmileDeveResponderEmSmile() throws Exception {
+        HttpResponse<byte[]> resposta = buscarPagina("application/x-jackson-smile", null);
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("application/x-jackson-smile", resposta.headers().firstValue("Content-Type").orElseThrow());
+        JsonNode pagina = new ObjectMapper(new SmileFactory()).readTree(resposta.body());
+        assertEquals(PESSOAS, pagina.get("content").size());
+    }
+
+    @Test
+    @DisplayName("Quando o cliente aceitar gzip respostas grandes devem ser comprimidas")
+    public void quandoOClienteAceitarGzipRespostasGrandesDevemSerComprimidas() throws Exception {
+        HttpResponse<byte[]> resposta = buscarPagina("application/json", "gzip");
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("gzip", resposta.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(resposta.headers().firstValue("ETag").orElseThrow().startsWith("W/"));
+        byte[] json = new GZIPInputStream(new ByteArrayInputStream(resposta.body())).readAllBytes();
+        assertTrue(json.length > resposta.body().length);
+        assertEquals(PESSOAS, new ObjectMapper().readTree(json).get("content").size());
+    }
+
+    private HttpResponse<byte[]> buscarPagina(String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + porta + "/pessoa/paginar?registros=" + PESSOAS))
+                .header("Accept", accept);
+        if (acceptEncoding != null) {
+            requisicao.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,223 @@
+package com.lucas.cadastropessoas.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.ResultadoImportacaoDTO;
+import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.importacao.ImportacaoPessoas;
+import com.lucas.cadastropessoas.service.FiltroCPF;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+public class ImportacaoTest {
+
+    private final String BASE_URL = "/pessoa";
+
+    private final String CABECALHO = "id,nome,cpf,data_nascimento,versao,contato_id,contato_nome,contato_telefone,"
+            + "contato_email\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ImportacaoPessoas importacaoPessoas;
+
+    @Autowired
+    private FiltroCPF filtroCPF;
+
+    @Test
+    @DisplayName("Quando importar um CSV deve gravar as pessoas com os contatos e rejeitar as linhas inválidas")
+    public void quandoImportarUmCsvDeveGravarAsPessoasComOsContatosERejeitarAsLinhasInvalidas() throws Exception {
+        pessoaService.cadastrar(PessoaDTOBuilder.builder()
+                .id(null)
+                .cpf(GeradorCPF.gerar(5000))
+                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                .build()
+                .toPessoaDTO());
+
+        String csv = CABECALHO
+                + ",Maria,\"" + mascarar(GeradorCPF.gerar(5001)) + "\",1990-05-01,,,Casa,1133334444,casa@email.com\n"
+                + ",Maria,\"" + mascarar(GeradorCPF.gerar(5001)) + "\",1990-05-01,,,\"Trabalho, ramal\",1155556666,"
+                + "trabalho@email.com\n"
+                + ",\"João \"\"Jr\"\"\"," + GeradorCPF.gerar(5002) + ",1985-12-31,,,Celular,11999998888,joao@email.com\n"
+                + ",Sem CPF,12345678901,1990-01-01,,,Casa,1133334444,casa@email.com\n"
+                + ",Futuro," + GeradorCPF.gerar(5003) + ",2999-01-01,,,Casa,1133334444,casa@email.com\n"
+                + ",Email," + GeradorCPF.gerar(5004) + ",1990-01-01,,,Casa,1133334444,invalido\n"
+                + ",Cadastrada," + GeradorCPF.gerar(5000) + ",1990-01-01,,,Casa,1133334444,casa@email.com\n";
+
+        ResultadoImportacaoDTO resultado = ler(importar(csv.getBytes(StandardCharsets.UTF_8), null)
+                .andExpect(status().isOk()));
+
+        assertEquals(7, resultado.getLinhas());
+        assertEquals(2, resultado.getPessoas());
+        assertEquals(3, resultado.getContatos());
+        assertEquals(4, resultado.getRejeitadas());
+
+        PessoaDTO maria = pessoaService.buscarPorCpf(GeradorCPF.gerar(5001));
+        assertEquals("Maria", maria.getNome());
+        assertEquals(2, maria.getContatos().size());
+        assertEquals("João \"Jr\"", pessoaService.buscarPorCpf(GeradorCPF.gerar(5002)).getNome());
+
+        String rejeicoes = mockMvc.perform(get(BASE_URL + "/import/" + resultado.getProtocolo() + "/rejeitadas"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(List.of(
+                "linha,cpf,motivo",
+                "5,12345678901,Campo cpf inválido.",
+                "6," + GeradorCPF.gerar(5003) + ",Campo data_nascimento inválido.",
+                "7," + GeradorCPF.gerar(5004) + ",Campo contato_email inválido.",
+                "8," + GeradorCPF.gerar(5000) + ",Pessoa com o CPF " + GeradorCPF.gerar(5000) + " já cadastrada."),
+                rejeicoes.lines().toList());
+    }
+
+    @Test
+    @DisplayName("Quando importar depois de cadastros da aplicação não deve repetir IDs")
+    public void quandoImportarDepoisDeCadastrosDaAplicacaoNaoDeveRepetirIds() throws Exception {
+        PessoaDTO antes = pessoaService.cadastrar(pessoa(5010));
+
+        String csv = CABECALHO + ",Importada," + GeradorCPF.gerar(5011) + ",1990-01-01,,,Casa,1133334444,a@email.com\n";
+        assertEquals(1, ler(importar(csv.getBytes(StandardCharsets.UTF_8), null)).getPessoas());
+
+        PessoaDTO depois = pessoaService.cadastrar(pessoa(5012));
+        PessoaDTO importada = pessoaService.buscarPorCpf(GeradorCPF.gerar(5011));
+        assertEquals(3, List.of(antes.getId(), depois.getId(), importada.getId()).stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Quando o arquivo vier comprimido com gzip deve importar")
+    public void quandoOArquivoVierComprimidoComGzipDeveImportar() throws Exception {
+        String csv = "nome,cpf,data_nascimento,contato_nome,contato_telefone,contato_email\n"
+                + "Comprimida," + GeradorCPF.gerar(5020) + ",1990-01-01,Casa,1133334444,casa@email.com\n";
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+            gzip.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(1, ler(importar(comprimido.toByteArray(), "gzip").andExpect(status().isOk())).getPessoas());
+        assertNotNull(pessoaService.buscarPorCpf(GeradorCPF.gerar(5020)));
+        mockMvc.perform(get(BASE_URL + "/busca").param("nome", "Comprimida"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Quando faltar uma coluna obrigatória deve retornar bad request")
+    public void quandoFaltarUmaColunaObrigatoriaDeveRetornarBadRequest() throws Exception {
+        String csv = "nome,cpf,data_nascimento,contato_nome,contato_telefone\n";
+
+        importar(csv.getBytes(StandardCharsets.UTF_8), null).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Quando o corpo estiver sendo lido não deve haver transação aberta")
+    public void quandoOCorpoEstiverSendoLidoNaoDeveHaverTransacaoAberta() throws Exception {
+        String csv = CABECALHO + ",Sem transação," + GeradorCPF.gerar(5030) + ",1990-01-01,,,Casa,1133334444,"
+                + "a@email.com\n";
+        List<Boolean> transacoes = new ArrayList<>();
+        InputStream entrada = new FilterInputStream(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                transacoes.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return super.read(b, off, len);
+            }
+        };
+
+        assertEquals(1, importacaoPessoas.importar(entrada).getPessoas());
+        assertFalse(transacoes.isEmpty());
+        assertFalse(transacoes.contains(true));
+    }
+
+    @Test
+    @DisplayName("Quando a mescla falhar com um Error deve desfazer a transação")
+    public void quandoAMesclaFalharComUmErrorDeveDesfazerATransacao() throws Exception {
+        String csv = CABECALHO + ",Desfeita," + GeradorCPF.gerar(5040) + ",1990-01-01,,,Casa,1133334444,a@email.com\n";
+        FiltroCPF filtroCPF = mock(FiltroCPF.class);
+        doThrow(new AssertionError("Falha simulada")).when(filtroCPF).adicionar(anyString());
+
+        ReflectionTestUtils.setField(importacaoPessoas, "filtroCPF", filtroCPF);
+        try {
+            assertThrows(AssertionError.class, () -> importacaoPessoas.importar(
+                    new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        } finally {
+            ReflectionTestUtils.setField(importacaoPessoas, "filtroCPF", this.filtroCPF);
+        }
+
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        assertThrows(PessoaNaoEncontradaException.class, () -> pessoaService.buscarPorCpf(GeradorCPF.gerar(5040)));
+    }
+
+    @Test
+    @DisplayName("Quando o protocolo não existir deve retornar not found")
+    public void quandoOProtocoloNaoExistirDeveRetornarNotFound() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/import/inexistente/rejeitadas")).andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_URL + "/import/00000000-0000-0000-0000-000000000000/rejeitadas"))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions importar(byte[] corpo, String contentEncoding) throws Exception {
+        var requisicao = post(BASE_URL + "/import").contentType("text/csv").content(corpo);
+        if (contentEncoding != null) {
+            requisicao.header("Content-Encoding", contentEncoding);
+        }
+        return mockMvc.perform(requisicao);
+    }
+
+    private ResultadoImportacaoDTO ler(ResultActions resultado) throws Exception {
+        return objectMapper.readValue(resultado.andReturn().getResponse().getContentAsString(),
+                ResultadoImportacaoDTO.class);
+    }
+
+    private static String mascarar(String cpf) {
+        return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+    }
+
+    private static PessoaDTO pessoa(int indice) {
+        return PessoaDTOBuilder.builder()
+                .id(null)
+                .cpf(GeradorCPF.gerar(indice))
+                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                .build()
+                .toPessoaDTO();
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -20,21 +22,34 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.LoteDTO;
+import com.lucas.cadastropessoas.dto.PaginaCursorDTO;
 import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.dto.PessoaResumoDTO;
 import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
 import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
+import com.lucas.cadastropessoas.exception.VersaoDesatualizadaException;
 import com.lucas.cadastropessoas.service.PessoaService;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 
@@ -205,6 +220,25 @@ public class PessoaControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Quando um post de lote for chamado deve retornar o relatório do lote")
+    public void postDeLoteChamadoDeveRetornarORelatorioDoLote() throws Exception {
+        List<PessoaDTO> pessoasDTO = Arrays.asList(PessoaDTOBuilder.builder().build().toPessoaDTO());
+        LoteDTO lote = new LoteDTO(1, 1, new ArrayList<>());
+
+        when(pessoaService.cadastrarLote(anyList())).thenReturn(lote);
+
+        mockMvc.perform(post(BASE_URL + "/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoasDTO))
+                .characterEncoding("utf-8"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gravados").value(1));
+
+        verify(pessoaService, times(1)).cadastrarLote(anyList());
+    }
+
     @Test
     @DisplayName("Quando um get for chamado com um ID cadastrado deve retornar uma única pessoa")
     public void getChamadoComParametroIDDeveRetornarUmaUnicaPessoa() throws Exception {
@@ -220,6 +254,50 @@ public class PessoaControllerTest {
         verify(pessoaService, times(1)).buscarUm(any(Long.class));
     }
 
+    @Test
+    @DisplayName("Quando um get for chamado com um CPF cadastrado deve retornar a pessoa")
+    public void getChamadoComUmCpfCadastradoDeveRetornarAPessoa() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+
+        when(pessoaService.buscarPorCpf(pessoaDTO.getCpf())).thenReturn(pessoaDTO);
+
+        mockMvc.perform(get(BASE_URL + "/cpf/" + pessoaDTO.getCpf())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cpf").value(pessoaDTO.getCpf()));
+    }
+
+    @Test
+    @DisplayName("Quando uma busca por nome for chamada deve retornar o resumo das pessoas encontradas")
+    public void buscaPorNomeChamadaDeveRetornarOResumoDasPessoasEncontradas() throws Exception {
+        PessoaResumoDTO pessoaResumoDTO = new PessoaResumoDTO(1L, "Nome teste", "42601209054");
+
+        when(pessoaService.buscarPorNome("nome", 10)).thenReturn(Arrays.asList(pessoaResumoDTO));
+
+        mockMvc.perform(get(BASE_URL + "/busca")
+                .param("nome", "nome")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome").value("Nome teste"));
+    }
+
+    @Test
+    @DisplayName("Quando um post for chamado com um CPF já cadastrado deve retornar um conflito")
+    public void postChamadoComUmCpfJaCadastradoDeveRetornarUmConflito() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+
+        when(pessoaService.cadastrar(any(PessoaDTO.class))).thenThrow(CpfJaCadastradoException.class);
+
+        mockMvc.perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoaDTO))
+                .characterEncoding("utf-8"))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("Quando um get for chamado com um ID NÃO cadastrado um erro é retornado")
     public void getChamadoComIdNaoCadastradoRecebeUmErro() throws Exception {
@@ -233,6 +311,25 @@ public class PessoaControllerTest {
         verify(pessoaService, times(1)).buscarUm(any(Long.class));
     }
 
+    @Test
+    @DisplayName("Quando um get paginado for chamado com cursor deve retornar o próximo cursor")
+    public void getPaginadoChamadoComCursorDeveRetornarOProximoCursor() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+        PaginaCursorDTO<PessoaDTO> pagina = new PaginaCursorDTO<>(Arrays.asList(pessoaDTO), 1, "AAAAAAAAAAE");
+
+        when(pessoaService.buscaPorCursor(any(String.class), any(Integer.class))).thenReturn(pagina);
+
+        mockMvc.perform(get(BASE_URL + "/paginar")
+                .param("apos", "")
+                .param("registros", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.proximo").value("AAAAAAAAAAE"));
+
+        verify(pessoaService, times(1)).buscaPorCursor("", 1);
+    }
+
     @Test
     @DisplayName("Quando um delete for chamado com um id deve receber um OK")
     public void deleteChamadoComUmIdDeveReceberUmOK() throws Exception {
@@ -290,4 +387,112 @@ public class PessoaControllerTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Quando um patch for chamado com campos válidos deve retornar um NO CONTENT")
+    public void patchChamadoComCamposValidosDeveRetornarUmNoContent() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\": \"Nome alterado\", \"versao\": 0}"))
+                .andDo(print())
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        verify(pessoaService, times(1)).atualizarParcial(eq(1L), any(PessoaParcialDTO.class));
+    }
+
+    @Test
+    @DisplayName("Quando um patch for chamado sem versão nem If-Match deve retornar um PRECONDITION REQUIRED")
+    public void patchChamadoSemVersaoDeveRetornarUmPreconditionRequired() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\": \"Nome alterado\"}"))
+                .andDo(print())
+                .andExpect(status().isPreconditionRequired());
+
+        verify(pessoaService, never()).atualizarParcial(any(Long.class), any(PessoaParcialDTO.class));
+    }
+
+    @Test
+    @DisplayName("Quando um patch for chamado com uma versão desatualizada deve retornar um CONFLITO")
+    public void patchChamadoComVersaoDesatualizadaDeveRetornarUmConflito() throws Exception {
+        doThrow(VersaoDesatualizadaException.class).when(pessoaService)
+                .atualizarParcial(any(Long.class), any(PessoaParcialDTO.class));
+
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\": \"Nome alterado\", \"versao\": 0}"))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Quando um get for chamado com o ETag atual deve retornar um NOT MODIFIED sem corpo")
+    public void getChamadoComETagAtualDeveRetornarUmNotModified() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().versao(3L).build().toPessoaDTO();
+
+        when(pessoaService.buscarUm(any(Long.class))).thenReturn(pessoaDTO);
+
+        mockMvc.perform(get(BASE_URL + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().string("Cache-Control", "max-age=0, must-revalidate, private"));
+
+        mockMvc.perform(get(BASE_URL + "/1").header("If-None-Match", "\"3\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Quando uma página for buscada com o ETag atual deve retornar um NOT MODIFIED")
+    public void paginaBuscadaComETagAtualDeveRetornarUmNotModified() throws Exception {
+        Page<PessoaDTO> pagina = new PageImpl<>(List.of(PessoaDTOBuilder.builder().versao(0L).build().toPessoaDTO()));
+
+        when(pessoaService.buscaPaginada(0, 5)).thenReturn(pagina);
+
+        String etag = mockMvc.perform(get(BASE_URL + "/paginar"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(BASE_URL + "/paginar").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Quando um put for chamado com If-Match desatualizado deve retornar um PRECONDITION FAILED")
+    public void putChamadoComIfMatchDesatualizadoDeveRetornarUmPreconditionFailed() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+
+        when(pessoaService.atualizar(any(Long.class), any(PessoaDTO.class)))
+                .thenThrow(VersaoDesatualizadaException.class);
+
+        mockMvc.perform(put(BASE_URL + "/1")
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Quando um delete for chamado com If-Match deve remover apenas a versão informada")
+    public void deleteChamadoComIfMatchDeveRemoverApenasAVersaoInformada() throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/1").header("If-Match", "\"2\""))
+                .andExpect(status().isOk());
+        verify(pessoaService, times(1)).deletar(1L, 2L);
+
+        doThrow(VersaoDesatualizadaException.class).when(pessoaService).deletar(1L, 3L);
+        mockMvc.perform(delete(BASE_URL + "/1").header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Quando um delete for chamado com If-Match fraco deve retornar um PRECONDITION FAILED sem remover")
+    public void deleteChamadoComIfMatchFracoDeveRetornarUmPreconditionFailed() throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/1").header("If-Match", "W/\"2\""))
+                .andExpect(status().isPreconditionFailed());
+        verify(pessoaService, never()).deletar(any(Long.class), any(Long.class));
+    }
+}
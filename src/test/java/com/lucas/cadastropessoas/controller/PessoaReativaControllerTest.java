@@ -0,0 +1,165 @@
+package com.lucas.cadastropessoas.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cadastrarPessoasReativo;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///cadastrarPessoasReativo?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=" })
+@ActiveProfiles("reativo")
+@AutoConfigureWebTestClient
+public class PessoaReativaControllerTest {
+
+    private final String BASE_URL = "/pessoa";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("Quando um post for chamado deve criar uma pessoa com contatos")
+    public void quandoUmPostForChamadoDeveCriarUmaPessoaComContatos() {
+        List<ContatoDTO> contatos = new ArrayList<>(Arrays.asList(
+                ContatoDTOBuilder.builder().build().toContatoDTO(),
+                ContatoDTOBuilder.builder().nome("Outro contato").build().toContatoDTO()));
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11001)).contatos(contatos).build()
+                .toPessoaDTO();
+
+        PessoaDTO criada = cadastrar(pessoaDTO);
+
+        assertNotEquals(pessoaDTO.getId(), criada.getId());
+        assertEquals(2, criada.getContatos().size());
+
+        PessoaDTO encontrada = webTestClient.get().uri(BASE_URL + "/" + criada.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PessoaDTO.class).returnResult().getResponseBody();
+
+        assertEquals(criada.getNome(), encontrada.getNome());
+        assertEquals(criada.getCpf(), encontrada.getCpf());
+        assertEquals(criada.getContatos(), encontrada.getContatos());
+    }
+
+    @Test
+    @DisplayName("Quando várias pessoas forem criadas os ids devem ser únicos")
+    public void quandoVariasPessoasForemCriadasOsIdsDevemSerUnicos() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11100 + i)).build().toPessoaDTO()).getId());
+        }
+
+        assertEquals(60, ids.size());
+    }
+
+    @Test
+    @DisplayName("Quando o CPF já estiver cadastrado deve retornar conflito")
+    public void quandoOCpfJaEstiverCadastradoDeveRetornarConflito() {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11002)).build().toPessoaDTO();
+        cadastrar(pessoaDTO);
+
+        webTestClient.post().uri(BASE_URL).bodyValue(pessoaDTO)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("Quando os dados forem inválidos deve retornar bad request")
+    public void quandoOsDadosForemInvalidosDeveRetornarBadRequest() {
+        PessoaDTO semContatos = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11003)).contatos(new ArrayList<>())
+                .build().toPessoaDTO();
+        PessoaDTO cpfInvalido = PessoaDTOBuilder.builder().cpf("12345678901").build().toPessoaDTO();
+
+        webTestClient.post().uri(BASE_URL).bodyValue(semContatos).exchange().expectStatus().isBadRequest();
+        webTestClient.post().uri(BASE_URL).bodyValue(cpfInvalido).exchange().expectStatus().isBadRequest();
+        webTestClient.put().uri(BASE_URL + "/1").bodyValue(cpfInvalido).exchange().expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Quando um put for chamado deve atualizar os dados da pessoa")
+    public void quandoUmPutForChamadoDeveAtualizarOsDadosDaPessoa() {
+        PessoaDTO criada = cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11004)).build().toPessoaDTO());
+        criada.setNome("Nome atualizado");
+
+        PessoaDTO atualizada = webTestClient.put().uri(BASE_URL + "/" + criada.getId()).bodyValue(criada)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PessoaDTO.class).returnResult().getResponseBody();
+
+        assertEquals("Nome atualizado", atualizada.getNome());
+        assertEquals(criada.getContatos(), atualizada.getContatos());
+    }
+
+    @Test
+    @DisplayName("Quando um delete for chamado a pessoa não deve mais ser encontrada")
+    public void quandoUmDeleteForChamadoAPessoaNaoDeveMaisSerEncontrada() {
+        PessoaDTO criada = cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11005)).build().toPessoaDTO());
+
+        webTestClient.delete().uri(BASE_URL + "/" + criada.getId()).exchange().expectStatus().isOk();
+        webTestClient.get().uri(BASE_URL + "/" + criada.getId()).exchange().expectStatus().isNotFound();
+        webTestClient.delete().uri(BASE_URL + "/" + criada.getId()).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Quando a paginação for chamada deve retornar a página com os contatos")
+    public void quandoAPaginacaoForChamadaDeveRetornarAPaginaComOsContatos() {
+        cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11006)).build().toPessoaDTO());
+        cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11007)).build().toPessoaDTO());
+
+        webTestClient.get().uri(BASE_URL + "/paginar?registros=2&pagina=0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].contatos.length()").isEqualTo(1)
+                .jsonPath("$.size").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Quando o Accept pedir CBOR deve responder em CBOR")
+    public void quandoOAcceptPedirCborDeveResponderEmCbor() throws Exception {
+        PessoaDTO criada = cadastrar(PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(11008)).build().toPessoaDTO());
+
+        byte[] corpo = webTestClient.get().uri(BASE_URL + "/" + criada.getId())
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/cbor")
+                .expectBody().returnResult().getResponseBody();
+
+        PessoaDTO encontrada = new ObjectMapper(new CBORFactory()).readValue(corpo, PessoaDTO.class);
+
+        assertEquals(criada.getCpf(), encontrada.getCpf());
+        assertEquals(criada.getContatos(), encontrada.getContatos());
+    }
+
+    private PessoaDTO cadastrar(PessoaDTO pessoaDTO) {
+        return webTestClient.post().uri(BASE_URL).bodyValue(pessoaDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(PessoaDTO.class).returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,87 @@
+package com.lucas.cadastropessoas.ingestao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.SituacaoCadastroDTO.Situacao;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.exception.FilaEncerradaException;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FilaCadastroTest {
+
+    private final PessoaService pessoaService = mock(PessoaService.class);
+
+    private final PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().build().toPessoaDTO();
+
+    private final CountDownLatch gravando = new CountDownLatch(1);
+
+    private FilaCadastro filaCadastro;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(pessoaService.prepararCadastro(any(PessoaDTO.class))).thenAnswer(invocacao -> new Pessoa());
+        // A gravação só termina, com erro, quando a thread é interrompida.
+        when(pessoaService.gravar(anyList())).thenAnswer(invocacao -> {
+            gravando.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Gravação interrompida");
+        });
+
+        filaCadastro = new FilaCadastro();
+        ReflectionTestUtils.setField(filaCadastro, "pessoaService", pessoaService);
+        ReflectionTestUtils.setField(filaCadastro, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filaCadastro, "capacidade", 10);
+        ReflectionTestUtils.setField(filaCadastro, "tamanhoLote", 1);
+        ReflectionTestUtils.setField(filaCadastro, "retencao", Duration.ofHours(1));
+        ReflectionTestUtils.setField(filaCadastro, "tempoEncerramento", Duration.ofMillis(100));
+        filaCadastro.iniciar();
+    }
+
+    @Test
+    @DisplayName("Quando o encerramento esgotar o tempo deve interromper o escritor e marcar os restantes como falha")
+    public void quandoOEncerramentoEsgotarOTempoDeveInterromperOEscritorEMarcarOsRestantesComoFalha()
+            throws Exception {
+        String gravado = filaCadastro.enfileirar(pessoaDTO).getProtocolo();
+        gravando.await(5, TimeUnit.SECONDS);
+        String naFila = filaCadastro.enfileirar(pessoaDTO).getProtocolo();
+
+        filaCadastro.encerrar();
+
+        assertEquals(Situacao.FALHOU, filaCadastro.situacao(naFila).getSituacao());
+        Thread escritor = (Thread) ReflectionTestUtils.getField(filaCadastro, "escritor");
+        escritor.join(5000);
+        assertFalse(escritor.isAlive());
+        assertEquals(Situacao.FALHOU, filaCadastro.situacao(gravado).getSituacao());
+    }
+
+    @Test
+    @DisplayName("Depois de encerrada a fila deve recusar novos cadastros")
+    public void depoisDeEncerradaAFilaDeveRecusarNovosCadastros() throws Exception {
+        filaCadastro.encerrar();
+
+        assertThrows(FilaEncerradaException.class, () -> filaCadastro.enfileirar(pessoaDTO));
+    }
+}
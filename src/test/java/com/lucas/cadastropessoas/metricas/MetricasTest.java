@@ -0,0 +1,63 @@
+package com.lucas.cadastropessoas.metricas;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Expõe as métricas do cadastro no endpoint do Prometheus")
+    public void testPrometheus() throws Exception {
+        mockMvc.perform(post("/pessoa")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(900))
+                                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                                .build().toPessoaDTO())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/pessoa")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        PessoaDTOBuilder.builder().id(null).cpf("12345678900").build().toPessoaDTO())))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/pessoa/paginar?registros=10&pagina=0"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("cadastro_servico_seconds_count")))
+                .andExpect(content().string(containsString("cadastro_repositorio_seconds_count")))
+                .andExpect(content().string(containsString("hibernate_")))
+                .andExpect(content().string(containsString("hikaricp_connections")))
+                .andExpect(content().string(containsString("cadastro_validacao_falhas_total{campo=\"cpf\"")));
+    }
+}
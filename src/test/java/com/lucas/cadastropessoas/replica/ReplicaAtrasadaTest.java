@@ -0,0 +1,73 @@
+package com.lucas.cadastropessoas.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+// A réplica é outro banco em memória, que só recebe o que o teste copia: uma réplica sempre atrasada.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cadastrarPessoasPrimario;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "cadastro.replicas.urls=" + ReplicaAtrasadaTest.URL_REPLICA,
+        "spring.cache.type=caffeine"
+})
+public class ReplicaAtrasadaTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:cadastrarPessoasReplicaAtrasada;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Test
+    @DisplayName("Quando ler logo depois de escrever deve obter e guardar no cache a versão do primário")
+    public void quandoLerLogoDepoisDeEscreverDeveObterEGuardarNoCacheAVersaoDoPrimario() throws Exception {
+        PessoaDTO pessoaCadastrada = pessoaService.cadastrar(PessoaDTOBuilder.builder().id(null)
+                .cpf(GeradorCPF.gerar(710))
+                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                .build().toPessoaDTO());
+        Long id = pessoaCadastrada.getId();
+
+        assertEquals(id, pessoaService.buscarUm(id).getId());
+
+        replica.update("INSERT INTO pessoa (id, nome, cpf, data_nascimento, versao) VALUES (?, ?, ?, ?, ?)", id,
+                pessoaCadastrada.getNome(), pessoaCadastrada.getCpf(), pessoaCadastrada.getDataNascimento(),
+                pessoaCadastrada.getVersao());
+        pessoaService.atualizarParcial(id, new PessoaParcialDTO("Nome novo", null, null, null));
+
+        for (int i = 0; i < 2; i++) {
+            PessoaDTO pessoa = pessoaService.buscarUm(id);
+            assertEquals("Nome novo", pessoa.getNome());
+            assertEquals(pessoaCadastrada.getVersao() + 1, pessoa.getVersao());
+        }
+    }
+
+    @TestConfiguration
+    static class EsquemaReplica {
+
+        // Criado antes das leituras somente leitura da inicialização, que já vão para a réplica. Não é um bean Flyway,
+        // que desligaria a migração automática do primário.
+        @Bean
+        MigrateResult esquemaReplica() {
+            return Flyway.configure().dataSource(URL_REPLICA, "sa", "").load().migrate();
+        }
+    }
+}
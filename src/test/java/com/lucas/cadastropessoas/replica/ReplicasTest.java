@@ -0,0 +1,62 @@
+package com.lucas.cadastropessoas.replica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// A réplica aponta para o mesmo banco em memória do primário, como se a replicação fosse instantânea; a segunda
+// réplica está fora do ar.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cadastrarPessoasReplicas;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "cadastro.replicas.urls=${spring.datasource.url},jdbc:h2:tcp://localhost:1/indisponivel",
+        "cadastro.replicas.hikari.connection-timeout=250"
+})
+public class ReplicasTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Leituras devem ir à réplica disponível e escritas e cargas do cache ao primário")
+    public void leiturasDevemIrAReplicaEEscritasAoPrimario() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(700))
+                .contatos(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO()))
+                .build().toPessoaDTO();
+
+        long escritasPrimario = conexoesUsadas("primario");
+        PessoaDTO pessoaCadastrada = pessoaService.cadastrar(pessoaDTO);
+        assertTrue(conexoesUsadas("primario") > escritasPrimario);
+
+        long leiturasPrimario = conexoesUsadas("primario");
+        long leiturasReplica = conexoesUsadas("replica-0");
+        for (int i = 0; i < 4; i++) {
+            assertEquals(pessoaCadastrada.getId(), pessoaService.buscarUm(pessoaCadastrada.getId()).getId());
+            assertEquals(1, pessoaService.buscaPaginada(0, 10).getTotalElements());
+        }
+
+        // buscarUm preenche o cache e por isso lê do primário.
+        assertEquals(leiturasPrimario + 4, conexoesUsadas("primario"));
+        assertEquals(leiturasReplica + 4, conexoesUsadas("replica-0"));
+    }
+
+    private long conexoesUsadas(String pool) {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count();
+    }
+}
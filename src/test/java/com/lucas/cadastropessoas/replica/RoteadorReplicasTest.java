@@ -0,0 +1,134 @@
+package com.lucas.cadastropessoas.replica;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class RoteadorReplicasTest {
+
+    private final DataSource primario = mock(DataSource.class);
+
+    private final DataSource replicaA = mock(DataSource.class);
+
+    private final DataSource replicaB = mock(DataSource.class);
+
+    private final Connection conexaoPrimario = mock(Connection.class);
+
+    private final Connection conexaoA = mock(Connection.class);
+
+    private final Connection conexaoB = mock(Connection.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replicaA.getConnection()).thenReturn(conexaoA);
+        when(replicaB.getConnection()).thenReturn(conexaoB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    @DisplayName("Fora de uma transação somente leitura deve usar o primário")
+    public void foraDeTransacaoSomenteLeituraDeveUsarOPrimario() throws SQLException {
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA, replicaB), 1000);
+
+        assertSame(conexaoPrimario, roteador.getConnection());
+        verify(replicaA, never()).getConnection();
+        verify(replicaB, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Transações somente leitura devem alternar entre as réplicas")
+    public void transacoesSomenteLeituraDevemAlternarEntreAsReplicas() throws SQLException {
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA, replicaB), 1000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoA, roteador.getConnection());
+        assertSame(conexaoB, roteador.getConnection());
+        assertSame(conexaoA, roteador.getConnection());
+        verify(primario, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Leituras marcadas para o primário devem usar o primário")
+    public void leiturasMarcadasParaOPrimarioDevemUsarOPrimario() throws SQLException {
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA, replicaB), 1000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        TransactionSynchronizationManager.setCurrentTransactionName(RoteadorReplicas.LEITURA_NO_PRIMARIO);
+
+        assertSame(conexaoPrimario, roteador.getConnection());
+        verify(replicaA, never()).getConnection();
+        verify(replicaB, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Réplica que falha deve sair do rodízio até o fim do intervalo")
+    public void replicaQueFalhaDeveSairDoRodizio() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("fora do ar"));
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA, replicaB), 60_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoB, roteador.getConnection());
+        assertSame(conexaoB, roteador.getConnection());
+        assertSame(conexaoB, roteador.getConnection());
+        verify(replicaA, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Réplica que falha deve voltar ao rodízio depois do intervalo")
+    public void replicaQueFalhaDeveVoltarAoRodizio() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("fora do ar")).thenReturn(conexaoA);
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA), 0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoPrimario, roteador.getConnection());
+        assertSame(conexaoA, roteador.getConnection());
+    }
+
+    @Test
+    @DisplayName("Sem réplicas disponíveis a leitura deve ir ao primário")
+    public void semReplicasDisponiveisALeituraDeveIrAoPrimario() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("fora do ar"));
+        when(replicaB.getConnection()).thenThrow(new IllegalStateException("pool não iniciado"));
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA, replicaB), 60_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoPrimario, roteador.getConnection());
+        assertSame(conexaoPrimario, roteador.getConnection());
+        verify(replicaA, times(1)).getConnection();
+        verify(replicaB, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Conexões com usuário e senha devem seguir o mesmo roteamento")
+    public void conexoesComUsuarioESenhaDevemSeguirOMesmoRoteamento() throws SQLException {
+        when(primario.getConnection("usuario", "senha")).thenReturn(conexaoPrimario);
+        when(replicaA.getConnection("usuario", "senha")).thenReturn(conexaoA);
+        RoteadorReplicas roteador = new RoteadorReplicas(primario, List.of(replicaA), 1000);
+
+        assertSame(conexaoPrimario, roteador.getConnection("usuario", "senha"));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(conexaoA, roteador.getConnection("usuario", "senha"));
+        verify(primario, times(1)).getConnection("usuario", "senha");
+    }
+}
@@ -0,0 +1,533 @@
+package com.lucas.cadastropessoas.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.lucas.cadastropessoas.builder.ContatoDTOBuilder;
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.AtualizacaoMassaDTO;
+import com.lucas.cadastropessoas.dto.ContatoDTO;
+import com.lucas.cadastropessoas.dto.FiltroMassaDTO;
+import com.lucas.cadastropessoas.dto.PessoaDTO;
+import com.lucas.cadastropessoas.dto.PessoaParcialDTO;
+import com.lucas.cadastropessoas.entity.Pessoa;
+import com.lucas.cadastropessoas.service.CursorPaginacao;
+import com.lucas.cadastropessoas.service.PessoaService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+        "cadastro.busca-ids.maximo=5" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PessoaRepositoryTest {
+
+    private final String BASE_URL = "/pessoa";
+
+    private final int PESSOAS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeAll
+    void setUp() {
+        List<PessoaDTO> pessoasDTO = new ArrayList<>();
+        for (int i = 0; i < PESSOAS; i++) {
+            List<ContatoDTO> contatos = new ArrayList<>(Arrays.asList(
+                    ContatoDTOBuilder.builder().id(null).build().toContatoDTO(),
+                    ContatoDTOBuilder.builder().id(null).build().toContatoDTO()));
+            pessoasDTO.add(PessoaDTOBuilder.builder()
+                    .id(null)
+                    .cpf(GeradorCPF.gerar(i))
+                    .contatos(contatos)
+                    .build()
+                    .toPessoaDTO());
+        }
+        pessoaService.cadastrarLote(pessoasDTO);
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void limparEstatisticas() {
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Quando uma página for buscada os contatos devem ser carregados em uma única consulta")
+    public void quandoUmaPaginaForBuscadaOsContatosDevemSerCarregadosEmUmaUnicaConsulta() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/paginar")
+                .param("registros", "20")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[19].contatos.length()").value(2));
+
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Quando o resumo de uma página for buscado não deve carregar entidades nem contatos")
+    public void quandoOResumoDeUmaPaginaForBuscadoNaoDeveCarregarEntidadesNemContatos() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/paginar")
+                .param("registros", "20")
+                .param("campos", "resumo")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(jsonPath("$.content[0].cpf").isString())
+                .andExpect(jsonPath("$.content[0].contatos").doesNotExist());
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertEquals(0, estatisticas.getCollectionLoadCount());
+    }
+
+    @Test
+    @DisplayName("Quando uma página for buscada por cursor deve executar apenas duas consultas")
+    public void quandoUmaPaginaForBuscadaPorCursorDeveExecutarApenasDuasConsultas() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/paginar")
+                .param("apos", "")
+                .param("registros", "20")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[19].contatos.length()").value(2));
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Quando a última página por cursor ganhar uma próxima deve deixar de responder NOT MODIFIED")
+    public void quandoAUltimaPaginaPorCursorGanharUmaProximaDeveDeixarDeResponderNotModified() throws Exception {
+        List<Pessoa> pessoas = cadastrar(240, 2);
+        String apos = CursorPaginacao.codificar(pessoas.get(0).getId() - 1);
+
+        String etag = mockMvc.perform(get(BASE_URL + "/paginar").param("apos", apos).param("registros", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registros").value(2))
+                .andExpect(jsonPath("$.proximo").doesNotExist())
+                .andReturn().getResponse().getHeader("ETag");
+
+        cadastrar(242, 1);
+
+        mockMvc.perform(get(BASE_URL + "/paginar").param("apos", apos).param("registros", "2")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.proximo").isString());
+    }
+
+    @Test
+    @DisplayName("Quando uma pessoa for buscada pelo CPF deve retornar a pessoa com os contatos")
+    public void quandoUmaPessoaForBuscadaPeloCpfDeveRetornarAPessoaComOsContatos() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/cpf/" + GeradorCPF.gerar(3))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cpf").value(GeradorCPF.gerar(3)))
+                .andExpect(jsonPath("$.contatos.length()").value(2));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Quando pessoas forem buscadas pelos IDs deve usar uma única consulta e manter a ordem pedida")
+    public void quandoPessoasForemBuscadasPelosIdsDeveUsarUmaUnicaConsultaEManterAOrdemPedida() throws Exception {
+        List<Pessoa> pessoas = pessoaRepository.buscaAposId(0L, Pageable.ofSize(3));
+        Long inexistente = Long.MAX_VALUE;
+        estatisticas.clear();
+
+        mockMvc.perform(get(BASE_URL)
+                .param("ids", pessoas.get(2).getId() + "," + inexistente + "," + pessoas.get(0).getId())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas.length()").value(2))
+                .andExpect(jsonPath("$.pessoas[0].id").value(pessoas.get(2).getId()))
+                .andExpect(jsonPath("$.pessoas[1].id").value(pessoas.get(0).getId()))
+                .andExpect(jsonPath("$.pessoas[1].contatos.length()").value(2))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(inexistente));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+
+        mockMvc.perform(get(BASE_URL).param("ids", "1,2,3,4,5,6"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Quando uma pessoa for buscada pelo nome deve encontrá-la sem consultar o banco")
+    public void quandoUmaPessoaForBuscadaPeloNomeDeveEncontralaSemConsultarOBanco() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/busca")
+                .param("nome", "Nome tes")
+                .param("limite", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].nome").value("Nome teste"));
+
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Quando um CPF já cadastrado for gravado novamente deve ser recusado pelo índice único")
+    public void quandoUmCpfJaCadastradoForGravadoNovamenteDeveSerRecusadoPeloIndiceUnico() {
+        Pessoa pessoa = pessoaService.toModel(PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(4)).build()
+                .toPessoaDTO());
+        pessoa.getContatos().forEach(contato -> contato.setId(null));
+
+        assertThrows(DataIntegrityViolationException.class, () -> pessoaRepository.saveAndFlush(pessoa));
+    }
+
+    @Test
+    @DisplayName("Quando uma pessoa for buscada pelo ID deve carregar os contatos na mesma consulta")
+    public void quandoUmaPessoaForBuscadaPeloIdDeveCarregarOsContatosNaMesmaConsulta() throws Exception {
+        Long id = pessoaRepository.buscaAposId(0L, Pageable.ofSize(1)).get(0).getId();
+        estatisticas.clear();
+
+        mockMvc.perform(get(BASE_URL + "/" + id)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contatos.length()").value(2));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Quando um patch for chamado deve atualizar a pessoa e a versão em um único comando")
+    public void quandoUmPatchForChamadoDeveAtualizarEmUmUnicoComando() throws Exception {
+        Pessoa pessoa = pessoaRepository.findByCpf(GeradorCPF.gerar(10)).orElseThrow();
+        estatisticas.clear();
+
+        mockMvc.perform(patch(BASE_URL + "/" + pessoa.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\": \"Nome alterado\", \"versao\": " + pessoa.getVersao() + "}"))
+                .andExpect(status().isNoContent());
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+
+        Pessoa pessoaAlterada = pessoaRepository.findByCpf(GeradorCPF.gerar(10)).orElseThrow();
+        assertEquals("Nome alterado", pessoaAlterada.getNome());
+        assertEquals(pessoa.getDataNascimento(), pessoaAlterada.getDataNascimento());
+        assertEquals(pessoa.getVersao() + 1, pessoaAlterada.getVersao());
+    }
+
+    @Test
+    @DisplayName("Quando um patch ou put for chamado com uma versão desatualizada deve retornar um CONFLITO")
+    public void quandoUmPatchOuPutForChamadoComVersaoDesatualizadaDeveRetornarUmConflito() throws Exception {
+        Long id = pessoaRepository.findByCpf(GeradorCPF.gerar(11)).orElseThrow().getId();
+        PessoaDTO pessoaDTO = pessoaService.buscarUm(id);
+        String alteracao = "{\"nome\": \"Nome alterado\", \"versao\": " + pessoaDTO.getVersao() + "}";
+
+        mockMvc.perform(patch(BASE_URL + "/" + id).contentType(MediaType.APPLICATION_JSON).content(alteracao))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch(BASE_URL + "/" + id).contentType(MediaType.APPLICATION_JSON).content(alteracao))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put(BASE_URL + "/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Quando a pessoa mudar o ETag deve mudar e o If-Match antigo deve ser recusado")
+    public void quandoAPessoaMudarOETagDeveMudarEOIfMatchAntigoDeveSerRecusado() throws Exception {
+        Long id = pessoaRepository.findByCpf(GeradorCPF.gerar(12)).orElseThrow().getId();
+
+        String etag = mockMvc.perform(get(BASE_URL + "/" + id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        String novoEtag = mockMvc.perform(patch(BASE_URL + "/" + id)
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\": \"Nome alterado\"}"))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", novoEtag));
+        mockMvc.perform(delete(BASE_URL + "/" + id).header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete(BASE_URL + "/" + id).header("If-Match", novoEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Quando uma pessoa for cadastrada os contatos devem ser inseridos já com a chave da pessoa")
+    public void quandoUmaPessoaForCadastradaOsContatosDevemSerInseridosJaComAChaveDaPessoa() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder()
+                .id(null)
+                .cpf(GeradorCPF.gerar(100))
+                .contatos(new ArrayList<>(Arrays.asList(
+                        ContatoDTOBuilder.builder().id(null).build().toContatoDTO(),
+                        ContatoDTOBuilder.builder().id(null).build().toContatoDTO())))
+                .build()
+                .toPessoaDTO();
+
+        mockMvc.perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pessoaDTO)))
+                .andExpect(status().isCreated());
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityUpdateCount());
+    }
+
+    @Test
+    @DisplayName("Quando um contato for adicionado deve inserir apenas o contato e incrementar a versão")
+    public void quandoUmContatoForAdicionadoDeveInserirApenasOContatoEIncrementarAVersao() throws Exception {
+        Pessoa pessoa = pessoaRepository.findByCpf(GeradorCPF.gerar(20)).orElseThrow();
+        ContatoDTO contatoDTO = ContatoDTOBuilder.builder().id(null).nome("Contato novo").build().toContatoDTO();
+        estatisticas.clear();
+
+        mockMvc.perform(post(BASE_URL + "/" + pessoa.getId() + "/contatos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber());
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+
+        mockMvc.perform(get(BASE_URL + "/" + pessoa.getId() + "/contatos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2].nome").value("Contato novo"));
+        mockMvc.perform(get(BASE_URL + "/" + pessoa.getId()))
+                .andExpect(header().string("ETag", "\"" + (pessoa.getVersao() + 1) + "\""));
+    }
+
+    @Test
+    @DisplayName("Quando um contato for alterado deve atualizar apenas o contato e incrementar a versão")
+    public void quandoUmContatoForAlteradoDeveAtualizarApenasOContatoEIncrementarAVersao() throws Exception {
+        Pessoa pessoa = pessoaRepository.findByCpf(GeradorCPF.gerar(21)).orElseThrow();
+        Long contatoId = pessoa.getContatos().get(0).getId();
+        ContatoDTO contatoDTO = ContatoDTOBuilder.builder().id(null).telefone("11988887777").build().toContatoDTO();
+        estatisticas.clear();
+
+        mockMvc.perform(put(BASE_URL + "/" + pessoa.getId() + "/contatos/" + contatoId)
+                .header("If-Match", "\"" + pessoa.getVersao() + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(contatoId));
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+
+        mockMvc.perform(get(BASE_URL + "/" + pessoa.getId()))
+                .andExpect(jsonPath("$.contatos[0].telefone").value("11988887777"));
+        mockMvc.perform(put(BASE_URL + "/" + pessoa.getId() + "/contatos/" + contatoId)
+                .header("If-Match", "\"" + pessoa.getVersao() + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Quando um contato for removido deve apagar apenas o contato e manter o último")
+    public void quandoUmContatoForRemovidoDeveApagarApenasOContatoEManterOUltimo() throws Exception {
+        Pessoa pessoa = pessoaRepository.findByCpf(GeradorCPF.gerar(22)).orElseThrow();
+        Long primeiro = pessoa.getContatos().get(0).getId();
+        Long segundo = pessoa.getContatos().get(1).getId();
+        estatisticas.clear();
+
+        mockMvc.perform(delete(BASE_URL + "/" + pessoa.getId() + "/contatos/" + primeiro))
+                .andExpect(status().isOk());
+
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+
+        mockMvc.perform(delete(BASE_URL + "/" + pessoa.getId() + "/contatos/" + segundo))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete(BASE_URL + "/" + pessoa.getId() + "/contatos/" + primeiro))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_URL + "/" + pessoa.getId() + "/contatos"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(segundo));
+        // As remoções recusadas desfazem o incremento da versão.
+        mockMvc.perform(get(BASE_URL + "/" + pessoa.getId()))
+                .andExpect(header().string("ETag", "\"" + (pessoa.getVersao() + 1) + "\""));
+    }
+
+    @Test
+    @DisplayName("Quando o contato for de outra pessoa deve retornar not found")
+    public void quandoOContatoForDeOutraPessoaDeveRetornarNotFound() throws Exception {
+        Pessoa pessoa = pessoaRepository.findByCpf(GeradorCPF.gerar(23)).orElseThrow();
+        Pessoa outra = pessoaRepository.findByCpf(GeradorCPF.gerar(24)).orElseThrow();
+        ContatoDTO contatoDTO = ContatoDTOBuilder.builder().id(null).build().toContatoDTO();
+
+        mockMvc.perform(put(BASE_URL + "/" + outra.getId() + "/contatos/" + pessoa.getContatos().get(0).getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put(BASE_URL + "/0/contatos/" + pessoa.getContatos().get(0).getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_URL + "/" + outra.getId()))
+                .andExpect(header().string("ETag", "\"" + outra.getVersao() + "\""));
+        mockMvc.perform(post(BASE_URL + "/0/contatos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(contatoDTO)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Quando pessoas forem excluídas em massa deve usar um único DELETE e remover os contatos no banco")
+    public void quandoPessoasForemExcluidasEmMassaDeveUsarUmUnicoDeleteERemoverOsContatosNoBanco() throws Exception {
+        List<Pessoa> pessoas = cadastrar(200, 3);
+        List<Long> ids = new ArrayList<>(pessoas.stream().map(Pessoa::getId).toList());
+        Long contatoId = pessoas.get(0).getContatos().get(0).getId();
+        ids.add(Long.MAX_VALUE);
+        estatisticas.clear();
+
+        mockMvc.perform(post(BASE_URL + "/lote/exclusao")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new FiltroMassaDTO(ids, null, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(3))
+                .andExpect(jsonPath("$.duracaoMs").isNumber());
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        assertEquals(false, contatoRepository.existsById(contatoId));
+        mockMvc.perform(get(BASE_URL + "/" + ids.get(0))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Quando pessoas forem excluídas em massa pelo período de cadastro deve excluir apenas as do período")
+    public void quandoPessoasForemExcluidasEmMassaPeloPeriodoDeCadastroDeveExcluirApenasAsDoPeriodo() throws Exception {
+        Date inicio = new Date();
+        List<Pessoa> pessoas = cadastrar(210, 2);
+        estatisticas.clear();
+
+        mockMvc.perform(post(BASE_URL + "/lote/exclusao")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new FiltroMassaDTO(null, inicio, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(2));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        assertEquals(false, pessoaRepository.existsById(pessoas.get(1).getId()));
+        assertEquals(true, pessoaRepository.existsByCpf(GeradorCPF.gerar(0)));
+    }
+
+    @Test
+    @DisplayName("Quando pessoas forem atualizadas em massa deve usar um único UPDATE e incrementar as versões")
+    public void quandoPessoasForemAtualizadasEmMassaDeveUsarUmUnicoUpdateEIncrementarAsVersoes() throws Exception {
+        List<Pessoa> pessoas = cadastrar(220, 3);
+        List<Long> ids = pessoas.stream().map(Pessoa::getId).toList();
+        AtualizacaoMassaDTO atualizacao = new AtualizacaoMassaDTO(new FiltroMassaDTO(ids, null, null),
+                new PessoaParcialDTO("Anonimizado", null, null, null));
+        estatisticas.clear();
+
+        mockMvc.perform(patch(BASE_URL + "/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(atualizacao)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(3));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        Pessoa alterada = pessoaRepository.findById(ids.get(2)).orElseThrow();
+        assertEquals("Anonimizado", alterada.getNome());
+        assertEquals(pessoas.get(2).getVersao() + 1, alterada.getVersao());
+
+        atualizacao.getAlteracoes().setCpf(GeradorCPF.gerar(229));
+        mockMvc.perform(patch(BASE_URL + "/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(atualizacao)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch(BASE_URL + "/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AtualizacaoMassaDTO(new FiltroMassaDTO(),
+                        new PessoaParcialDTO("Anonimizado", null, null, null)))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Quando pessoas forem atualizadas em massa pelo período de cadastro deve usar um único UPDATE")
+    public void quandoPessoasForemAtualizadasEmMassaPeloPeriodoDeCadastroDeveUsarUmUnicoUpdate() throws Exception {
+        Date inicio = new Date();
+        List<Pessoa> pessoas = cadastrar(230, 2);
+        AtualizacaoMassaDTO atualizacao = new AtualizacaoMassaDTO(new FiltroMassaDTO(null, inicio, null),
+                new PessoaParcialDTO("Corrigido em massa", null, null, null));
+        estatisticas.clear();
+
+        mockMvc.perform(patch(BASE_URL + "/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(atualizacao)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.afetados").value(2));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        Pessoa alterada = pessoaRepository.findById(pessoas.get(1).getId()).orElseThrow();
+        assertEquals("Corrigido em massa", alterada.getNome());
+        assertEquals(pessoas.get(1).getVersao() + 1, alterada.getVersao());
+        mockMvc.perform(get(BASE_URL + "/busca").param("nome", "Corrigido em"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    private List<Pessoa> cadastrar(int primeiroCpf, int quantidade) {
+        List<PessoaDTO> pessoasDTO = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder()
+                    .id(null)
+                    .cpf(GeradorCPF.gerar(primeiroCpf + i))
+                    .contatos(new ArrayList<>(List.of(ContatoDTOBuilder.builder().id(null).build().toContatoDTO())))
+                    .build()
+                    .toPessoaDTO());
+        }
+        pessoaService.cadastrarLote(pessoasDTO);
+
+        List<Pessoa> pessoas = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            pessoas.add(pessoaRepository.findByCpf(GeradorCPF.gerar(primeiroCpf + i)).orElseThrow());
+        }
+        return pessoas;
+    }
+}
@@ -0,0 +1,48 @@
+package com.lucas.cadastropessoas.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+
+public class FiltroCPFTest {
+
+    private final int CAPACIDADE = 10_000;
+
+    private FiltroCPF filtroCPF;
+
+    @BeforeEach
+    void setUp() {
+        filtroCPF = new FiltroCPF();
+        ReflectionTestUtils.setField(filtroCPF, "capacidade", (long) CAPACIDADE);
+        ReflectionTestUtils.setField(filtroCPF, "taxaFalsosPositivos", 0.01);
+        filtroCPF.iniciar();
+    }
+
+    @Test
+    @DisplayName("Antes de carregado o filtro deve considerar qualquer CPF possivelmente cadastrado")
+    public void antesDeCarregadoOFiltroDeveConsiderarQualquerCpfPossivelmenteCadastrado() {
+        assertTrue(filtroCPF.talvezContenha(GeradorCPF.gerar(1)));
+    }
+
+    @Test
+    @DisplayName("Depois de carregado o filtro não deve ter falsos negativos e deve respeitar a taxa de falsos positivos")
+    public void depoisDeCarregadoOFiltroNaoDeveTerFalsosNegativos() {
+        filtroCPF.carregar(LongStream.range(0, CAPACIDADE).mapToObj(GeradorCPF::gerar));
+
+        for (int i = 0; i < CAPACIDADE; i++) {
+            assertTrue(filtroCPF.talvezContenha(GeradorCPF.gerar(i)));
+        }
+
+        long falsosPositivos = LongStream.range(CAPACIDADE, 2L * CAPACIDADE)
+                .filter(semente -> filtroCPF.talvezContenha(GeradorCPF.gerar(semente)))
+                .count();
+        assertTrue(falsosPositivos < CAPACIDADE * 0.02, "falsos positivos: " + falsosPositivos);
+    }
+}
@@ -3,9 +3,14 @@ package com.lucas.cadastropessoas.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -16,15 +21,22 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
+import com.lucas.cadastropessoas.builder.GeradorCPF;
 import com.lucas.cadastropessoas.builder.PessoaDTOBuilder;
+import com.lucas.cadastropessoas.dto.LoteDTO;
+import com.lucas.cadastropessoas.dto.PaginaCursorDTO;
 import com.lucas.cadastropessoas.dto.PessoaDTO;
 import com.lucas.cadastropessoas.entity.Pessoa;
 import com.lucas.cadastropessoas.exception.CampoInvalidoException;
+import com.lucas.cadastropessoas.exception.CpfJaCadastradoException;
 import com.lucas.cadastropessoas.exception.PessoaNaoEncontradaException;
 import com.lucas.cadastropessoas.repository.PessoaRepository;
 
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -110,6 +122,101 @@ public class PessoaServiceTest {
         assertThrows(CampoInvalidoException.class, () -> pessoaService.cadastrar(pessoaDTO));
     }
 
+    @Test
+    @DisplayName("Quando receber uma Pessoa com CPF já cadastrado deve levantar um erro")
+    public void quandoReceberUmaPessoaComCpfJaCadastradoDeveLevantarUmErro() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(7001)).build().toPessoaDTO();
+
+        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoaService.toModel(pessoaDTO));
+        pessoaService.cadastrar(pessoaDTO);
+
+        when(pessoaRepository.existsByCpf(pessoaDTO.getCpf())).thenReturn(true);
+
+        assertThrows(CpfJaCadastradoException.class, () -> pessoaService.cadastrar(pessoaDTO));
+    }
+
+    @Test
+    @DisplayName("Quando receber uma Pessoa com CPF ausente do filtro não deve consultar o banco")
+    public void quandoReceberUmaPessoaComCpfAusenteDoFiltroNaoDeveConsultarOBanco() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(7002)).build().toPessoaDTO();
+
+        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoaService.toModel(pessoaDTO));
+        pessoaService.cadastrar(pessoaDTO);
+
+        verify(pessoaRepository, never()).existsByCpf(pessoaDTO.getCpf());
+    }
+
+    @Test
+    @DisplayName("Quando receber um CPF com máscara deve buscar a Pessoa pelo CPF normalizado")
+    public void quandoReceberUmCpfComMascaraDeveBuscarAPessoaPeloCpfNormalizado() throws Exception {
+        String cpf = GeradorCPF.gerar(7003);
+        String cpfComMascara = String.format("%s.%s.%s-%s",
+                cpf.substring(0, 3), cpf.substring(3, 6), cpf.substring(6, 9), cpf.substring(9));
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(cpf).build().toPessoaDTO();
+
+        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoaService.toModel(pessoaDTO));
+        pessoaService.cadastrar(pessoaDTO);
+
+        when(pessoaRepository.findByCpf(cpf)).thenReturn(Optional.of(pessoaService.toModel(pessoaDTO)));
+
+        assertEquals(pessoaDTO, pessoaService.buscarPorCpf(cpfComMascara));
+    }
+
+    @Test
+    @DisplayName("Quando o CPF foi cadastrado por outro nó deve encontrá-lo mesmo fora do filtro")
+    public void quandoOCpfFoiCadastradoPorOutroNoDeveEncontraloMesmoForaDoFiltro() throws Exception {
+        PessoaDTO pessoaDTO = PessoaDTOBuilder.builder().cpf(GeradorCPF.gerar(7004)).build().toPessoaDTO();
+
+        when(pessoaRepository.findByCpf(pessoaDTO.getCpf())).thenReturn(Optional.of(pessoaService.toModel(pessoaDTO)));
+
+        assertEquals(pessoaDTO, pessoaService.buscarPorCpf(pessoaDTO.getCpf()));
+    }
+
+    @Test
+    @DisplayName("Quando receber um lote deve gravar as Pessoas válidas e reportar as inválidas")
+    public void quandoReceberUmLoteDeveGravarAsValidasEReportarAsInvalidas() {
+        PessoaDTO pessoaValida = PessoaDTOBuilder.builder().build().toPessoaDTO();
+        PessoaDTO pessoaCpfInvalido = PessoaDTOBuilder.builder().cpf("12345678910").build().toPessoaDTO();
+        PessoaDTO pessoaSemContatos = PessoaDTOBuilder.builder().contatos(new ArrayList<>()).build().toPessoaDTO();
+
+        LoteDTO lote = pessoaService.cadastrarLote(Arrays.asList(pessoaValida, pessoaCpfInvalido, pessoaSemContatos));
+
+        assertEquals(3, lote.getRecebidos());
+        assertEquals(1, lote.getGravados());
+        assertEquals(2, lote.getErros().size());
+        assertEquals(1, lote.getErros().get(0).getIndice());
+        assertEquals(2, lote.getErros().get(1).getIndice());
+
+        verify(pessoaRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Quando o banco recusar uma Pessoa do lote deve gravar as demais e reportar só ela")
+    public void quandoOBancoRecusarUmaPessoaDoLoteDeveGravarAsDemaisEReportarSoEla() {
+        List<PessoaDTO> pessoasDTO = new ArrayList<>();
+        for (int i = 250; i <= 252; i++) {
+            pessoasDTO.add(PessoaDTOBuilder.builder().id(null).cpf(GeradorCPF.gerar(i)).build().toPessoaDTO());
+        }
+        String cpfRecusado = GeradorCPF.gerar(251);
+
+        when(pessoaRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            List<Pessoa> pessoas = invocacao.getArgument(0);
+            if (pessoas.stream().anyMatch(pessoa -> pessoa.getCpf().equals(cpfRecusado))) {
+                throw new DataIntegrityViolationException("pessoa_cpf_idx");
+            }
+            return List.of();
+        });
+
+        LoteDTO lote = pessoaService.cadastrarLote(pessoasDTO);
+
+        assertEquals(2, lote.getGravados());
+        assertEquals(1, lote.getErros().size());
+        assertEquals(1, lote.getErros().get(0).getIndice());
+        assertEquals(new CpfJaCadastradoException(cpfRecusado).getMessage(), lote.getErros().get(0).getMensagem());
+
+        verify(pessoaRepository, times(4)).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("Quando receber um ID cadastrado deve retornar uma Pessoa")
     public void quandoReceberUmIdCadastradoDeveRetornarUmaPessoa() throws Exception {
@@ -123,6 +230,29 @@ public class PessoaServiceTest {
         assertEquals(pessoaDTO, pessoaDTOEncontrada);
     }
 
+    @Test
+    @DisplayName("Quando receber um cursor deve retornar a página seguinte e o próximo cursor")
+    public void quandoReceberUmCursorDeveRetornarAPaginaSeguinteEOProximoCursor() throws Exception {
+        List<Pessoa> pessoas = new ArrayList<>();
+        for (long id = 11; id <= 13; id++) {
+            pessoas.add(pessoaService.toModel(PessoaDTOBuilder.builder().id(id).build().toPessoaDTO()));
+        }
+
+        when(pessoaRepository.buscaAposId(eq(10L), any(Pageable.class))).thenReturn(pessoas);
+
+        PaginaCursorDTO<PessoaDTO> pagina = pessoaService.buscaPorCursor(CursorPaginacao.codificar(10L), 2);
+
+        assertEquals(2, pagina.getRegistros());
+        assertEquals(12L, pagina.getConteudo().get(1).getId());
+        assertEquals(12L, CursorPaginacao.decodificar(pagina.getProximo()));
+    }
+
+    @Test
+    @DisplayName("Quando receber um cursor inválido deve levantar um erro")
+    public void quandoReceberUmCursorInvalidoDeveLevantarUmErro() {
+        assertThrows(CampoInvalidoException.class, () -> pessoaService.buscaPorCursor("invalido!", 5));
+    }
+
     @Test
     @DisplayName("Quando receber um ID não cadastrado deve levantar um erro")
     public void quandoReceberUmIdNaoCadastradoDeveLevantarUmErro() throws Exception {
@@ -0,0 +1,66 @@
+package com.lucas.cadastropessoas.validator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.lucas.cadastropessoas.builder.GeradorCPF;
+
+public class ValidarCPFTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "42601209054", "426.012.090-54", "52998224725", "529.982.247-25" })
+    @DisplayName("Quando receber um CPF válido, com ou sem máscara, deve aceitá-lo")
+    public void quandoReceberUmCpfValidoDeveAceitar(String cpf) {
+        assertTrue(ValidarCPF.cpfValido(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "12345678910", "42601209055", "11111111111", "00000000000", "4260120905",
+            "426012090540", "426.012.090.54", "4260.12.090-54", "42601209O54", "426 012 090 54" })
+    @DisplayName("Quando receber um CPF inválido deve recusá-lo")
+    public void quandoReceberUmCpfInvalidoDeveRecusar(String cpf) {
+        assertFalse(ValidarCPF.cpfValido(cpf));
+    }
+
+    @Test
+    @DisplayName("Quando receber um CPF nulo deve recusá-lo")
+    public void quandoReceberUmCpfNuloDeveRecusar() {
+        assertFalse(ValidarCPF.cpfValido(null));
+        assertNull(ValidarCPF.normalizar(null));
+    }
+
+    @Test
+    @DisplayName("Quando normalizar um CPF com máscara deve retornar apenas os dígitos")
+    public void quandoNormalizarUmCpfComMascaraDeveRetornarApenasOsDigitos() {
+        assertEquals("01234567890", ValidarCPF.normalizar("012.345.678-90"));
+        assertNull(ValidarCPF.normalizar("012.345.678-91"));
+    }
+
+    @Test
+    @DisplayName("Quando validar um lote deve retornar o mesmo resultado da validação individual")
+    public void quandoValidarUmLoteDeveRetornarOMesmoResultadoDaValidacaoIndividual() {
+        List<String> cpfs = new ArrayList<>();
+        boolean[] esperados = new boolean[100_000];
+        for (int i = 0; i < esperados.length; i++) {
+            String cpf = GeradorCPF.gerar(i);
+            if (i % 3 == 0) {
+                cpf = cpf.substring(0, 10) + (char) ('0' + (cpf.charAt(10) - '0' + 1) % 10);
+            }
+            cpfs.add(cpf);
+            esperados[i] = ValidarCPF.cpfValido(cpf);
+        }
+
+        assertArrayEquals(esperados, ValidarCPF.validarLote(cpfs));
+    }
+}